@@ -1,6 +1,8 @@
-import java.io.BufferedWriter;
+import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 public class AACluster {
 	
@@ -10,95 +12,167 @@ public class AACluster {
 	public static boolean VV = false;
 	// test something on MTMAM
     public static boolean V = false;
-	private static Models[] m =  Models.values();
+    
+	// digits after the point in the TSV and R layouts
+	private static final int DECIMALS = 6;
 	
 	/**
-	 * @param args none
+	 * @param args [-metric name] [-precision p] [-model-precision p]
+	 * followed by optional PAML .dat files or model dumps, their models are
+	 * compared alongside the built in ones. The precisions are DOUBLE, FLOAT
+	 * or INT16 for the distance matrices and the rates the distances are
+	 * computed from, -precision-report compares them to DOUBLE instead.
+	 * -spill dir keeps the distance matrices in memory mapped files in dir,
+	 * only -layout phylip_lower writes them back in one sequential pass.
+	 * -layout text|tsv|r|phylip|phylip_lower selects the format of the
+	 * written matrices, -binary file also writes the max matrix in the binary
+	 * DistanceFile format.
+	 * -cluster single|complete|average|ward clusters the max matrix and
+	 * writes the tree to <linkage>.nwk in Newick format, with -spill its
+	 * working copy of the matrix is a temporary file in the spill dir.
+	 * -medoids k prints the k models that represent the others best, each
+	 * with the models it represents. -kmeans k prints k-means clusters of
+	 * the max scaled models, -seed n seeds them.
+	 * -mds dims writes the points of classical MDS of the max matrix to
+	 * points.txt, -landmarks l uses landmark MDS with l landmarks instead.
+	 * points.txt is the n x dims matrix as write.table() writes it in R: a
+	 * header line "V1" "V2" .., then one line per model, its quoted name
+	 * followed by its coordinates. read.table("points.txt") reads it back.
+	 * -bench-lsh library.aaml compares approximate and exact nearest model
+	 * search on a model library instead.
+	 * -tsne library.aaml writes a Barnes-Hut t-SNE map of a model library to
+	 * points.txt instead, an n x 2 matrix as -mds writes it, -perplexity p
+	 * sets its neighborhood and -seed n seeds it, both given before.
 	 */
 	public static void main(String[] args) {
-		double[][] d1, d2, d3, d4, d5;
-		AAModel a, b;
+		SymmetricMatrix d1, d2, d3, d4, d5;
+		AAModel[] m;
+		DistanceMetric metric = Metric.EUCLIDEAN;
+		Precision precision = Precision.DOUBLE, modelPrecision = Precision.DOUBLE;
+		boolean report = false;
+		File spill = null;
+		MatrixWriter.Layout layout = MatrixWriter.Layout.TEXT;
+		File binary = null;
+		Linkage linkage = null;
+		int medoids = 0, means = 0, mds = 0, landmarks = 0;
+		long seed = 1;
+		double perplexity = TSNE.PERPLEXITY;
+		List<File> files = new ArrayList<File>();
 		
-		// output original models
-		if(VVV) {
-			for(Models d : Models.values()) {
-				AAModel tmp = new AAModel(d);
-				
-				System.out.println(tmp.toString());
-			}
-			System.exit(0);
-		// output inner model distance matrices
-		} else if (VV) {
-			for(Models d : Models.values()) {
-				FileWriter fstream;
-				AAModel tmp = new AAModel(d);
-				tmp.scaleMax();
-				tmp.revertMax();
+		for(int i = 0; i < args.length; i++) {
+			if(args[i].equals("-metric") && i + 1 < args.length)
+				metric = Metric.byName(args[++i]);
+			else if(args[i].equals("-precision") && i + 1 < args.length)
+				precision = Precision.byName(args[++i]);
+			else if(args[i].equals("-model-precision") && i + 1 < args.length)
+				modelPrecision = Precision.byName(args[++i]);
+			else if(args[i].equals("-layout") && i + 1 < args.length)
+				layout = MatrixWriter.Layout.valueOf(args[++i].toUpperCase().replace('-', '_'));
+			else if(args[i].equals("-binary") && i + 1 < args.length)
+				binary = new File(args[++i]);
+			else if(args[i].equals("-cluster") && i + 1 < args.length)
+				linkage = Linkage.byName(args[++i]);
+			else if(args[i].equals("-medoids") && i + 1 < args.length)
+				medoids = Integer.parseInt(args[++i]);
+			else if(args[i].equals("-kmeans") && i + 1 < args.length)
+				means = Integer.parseInt(args[++i]);
+			else if(args[i].equals("-mds") && i + 1 < args.length)
+				mds = Integer.parseInt(args[++i]);
+			else if(args[i].equals("-landmarks") && i + 1 < args.length)
+				landmarks = Integer.parseInt(args[++i]);
+			else if(args[i].equals("-seed") && i + 1 < args.length)
+				seed = Long.parseLong(args[++i]);
+			else if(args[i].equals("-perplexity") && i + 1 < args.length)
+				perplexity = Double.parseDouble(args[++i]);
+			else if(args[i].equals("-spill") && i + 1 < args.length)
+				spill = new File(args[++i]);
+			else if(args[i].equals("-precision-report"))
+				report = true;
+			else if(args[i].equals("-bench-lsh") && i + 1 < args.length) {
 				try {
-					fstream = new FileWriter(d.name() + ".txt");
-					BufferedWriter out = new BufferedWriter(fstream);
-					out.write(tmp.matToString());
-					out.close();
+					ModelLibrary lib = ModelLibrary.open(new File(args[++i]));
+					System.out.println(ProjectionIndex.benchmark(PackedModels.of(lib, 0, lib.size()), 10, 100, 1));
 				} catch (IOException e) {
-					e.printStackTrace();
+					System.err.println("Error: " + e.getMessage());
+					System.exit(1);
 				}
-				
-			}	
-		// check something on mtmam
-		} else if (V) {
-			System.out.println(new AAModel(Models.MTMAM).toString());
-			System.exit(0);
+				System.exit(0);
+			} else if(args[i].equals("-tsne") && i + 1 < args.length) {
+				try {
+					ModelLibrary lib = ModelLibrary.open(new File(args[++i]));
+					PackedModels models = PackedModels.of(lib, 0, lib.size());
+					double[][] x = new TSNE(perplexity, TSNE.ITERATIONS, seed, Parallel.POOL).embed(models);
+					String[] names = new String[models.size()];
+					for(int j = 0; j < names.length; j++)
+						names[j] = models.name(j);
+					MatrixWriter points = new MatrixWriter(new FileWriter("points.txt"));
+					points.points(x, names, DECIMALS).close();
+				} catch (IOException e) {
+					System.err.println("Error: " + e.getMessage());
+					System.exit(1);
+				}
+				System.exit(0);
+			} else
+				files.add(new File(args[i]));
 		}
 		
-		// create distance matrix, models scaled by their maximum rate
-		d1 = new double[m.length][m.length];
-		for(int i = 0; i < m.length; i++) {
-			a = new AAModel(m[i]).scaleMax();
-			for(int j = 0; j < m.length; j++) {
-				b = new AAModel(m[j]).scaleMax();
-				d1[i][j] = AAModel.dist(a, b);
+		if(!files.isEmpty()) {
+			try {
+				ModelImporter.importAll(files.toArray(new File[files.size()]));
+			} catch (IOException e) {
+				System.err.println("Error: " + e.getMessage());
+				System.exit(1);
 			}
 		}
+		DistanceMatrixEngine engine = new DistanceMatrixEngine(Parallel.POOL, modelPrecision, precision);
 		
-		// create distance matrix, models scaled by the sum of the rates of all affected amino acids
-		d2 = new double[m.length][m.length];
-		for(int i = 0; i < m.length; i++) {
-			a = new AAModel(m[i]).scaleOcc(20);
-			for(int j = 0; j < m.length; j++) {
-				b = new AAModel(m[j]).scaleOcc(20);
-				d2[i][j] = AAModel.dist(a, b);
-			}
+		if(report) {
+			System.out.print(engine.precisionReport(ModelRegistry.all(Normalization.MAX), metric));
+			System.exit(0);
 		}
 		
-		// create distance mattrix, models scaled to one substitution per unit time (kassians approach)
-		d3 = new double[m.length][m.length];
-		for(int i = 0; i < m.length; i++) {
-			a = new AAModel(m[i]).scaleOne();
-			for(int j = 0; j < m.length; j++) {
-				b = new AAModel(m[j]).scaleOne();
-				d3[i][j] = AAModel.dist(a, b);
+		// output original models
+		if(VVV) {
+			for(AAModel tmp : ModelRegistry.all(Normalization.NONE)) {
+				System.out.println(tmp.toString());
 			}
-		}
-	
-		// create distance matrix, kassians approach, with the acid frequencies removed
-		d4 = new double[m.length][m.length];
-		for(int i = 0; i < m.length; i++) {
-			a = new AAModel(m[i]).scaleOneFLess();
-			for(int j = 0; j < m.length; j++) {
-				b = new AAModel(m[j]).scaleOneFLess();
-				d4[i][j] = AAModel.dist(a, b);
+			System.exit(0);
+		// output inner model distance matrices
+		} else if (VV) {
+			try {
+				ModelDump.write(ModelRegistry.all(Normalization.MAX), new File("."));
+			} catch (IOException e) {
+				e.printStackTrace();
 			}
+		// check something on mtmam
+		} else if (V) {
+			System.out.println(ModelRegistry.get(Models.MTMAM).toString());
+			System.exit(0);
 		}
-
-		// create distance matrix without any scaling beforehand
-		d5 = new double[m.length][m.length];
-		for(int i = 0; i < m.length; i++) {
-			a = new AAModel(m[i]);
-			for(int j = 0; j < m.length; j++) {
-				b = new AAModel(m[j]);
-				d5[i][j] = AAModel.dist(a, b);
+		
+		// create the distance matrices for all scalings in one pass
+		m = ModelRegistry.all(Normalization.NONE);
+		SymmetricMatrix[] d = null;
+		if(spill == null)
+			d = engine.computeAll(m, metric);
+		else {
+			try {
+				d = engine.computeAll(m, metric, spill);
+			} catch (IOException e) {
+				System.err.println("Error: " + e.getMessage());
+				System.exit(1);
 			}
 		}
+		// models scaled by their maximum rate
+		d1 = d[Normalization.MAX.ordinal()];
+		// models scaled by the sum of the rates of all affected amino acids
+		d2 = d[Normalization.OCC.ordinal()];
+		// models scaled to one substitution per unit time (kassians approach)
+		d3 = d[Normalization.ONE.ordinal()];
+		// kassians approach, with the acid frequencies removed
+		d4 = d[Normalization.ONE_F_LESS.ordinal()];
+		// without any scaling beforehand
+		d5 = d[Normalization.NONE.ordinal()];
 		
 		
 //		AAModel[] v = new AAModel[3];
@@ -130,7 +204,7 @@ public class AACluster {
 //			System.out.println(dayhoffs.name + " - " + tmp.name + ": \t" + AAModel.dist(dayhoffs, tmp));
 //		}
 		
-		BufferedWriter max, aac, one, oneF, none;
+		MatrixWriter max, aac, one, oneF, none;
 		
 
 
@@ -141,30 +215,58 @@ public class AACluster {
 		d5 = scaleByMax(d5, 1);
 		
 		
-		System.out.println("Scaled by maximum: ");
-		System.out.println(distMatToString(d1));
-//		System.out.println("Scaled by number of occurence of AAs: ");
-//		distMatToString(d2);
-//		System.out.println("Scaled to one subst. per time step: ");
-//		distMatToString(d3);
-//		System.out.println("F less: ");
-//		distMatToString(d4);
-//		System.out.println("not scaled: ");
-//		distMatToString(d5);
-		
+		try{
+			MatrixWriter stdout = new MatrixWriter(System.out);
+			System.out.println("Scaled by maximum: ");
+			writeDistMat(stdout, d1, m, layout);
+			stdout.append(System.lineSeparator()).flush();
+			if(medoids > 0) {
+				KMedoids.Result r = new KMedoids().cluster(d1, medoids);
+				String[] heads = new String[medoids];
+				for(int c = 0; c < medoids; c++)
+					heads[c] = m[r.medoids()[c]].name;
+				writeClusters(stdout, "Medoids: ", heads, r.assignment(), m);
+			}
+			if(means > 0) {
+				KMeans.Result r = new KMeans(seed).cluster(ModelRegistry.all(Normalization.MAX), means);
+				writeClusters(stdout, "k-means: ", names(r.centroids()), r.assignment(), m);
+			}
+//			System.out.println("Scaled by number of occurence of AAs: ");
+//			writeDistMat(stdout, d2, m, layout);
+//			System.out.println("Scaled to one subst. per time step: ");
+//			writeDistMat(stdout, d3, m, layout);
+//			System.out.println("F less: ");
+//			writeDistMat(stdout, d4, m, layout);
+//			System.out.println("not scaled: ");
+//			writeDistMat(stdout, d5, m, layout);
+		}catch (IOException e){
+			System.err.println("Error: " + e.getMessage());
+		}
 		
 		try{
-			max = new BufferedWriter(new FileWriter("max.txt"));
-			none = new BufferedWriter(new FileWriter("none.txt"));
-			aac = new BufferedWriter(new FileWriter("aac.txt"));
-			one = new BufferedWriter(new FileWriter("one.txt"));
-			oneF = new BufferedWriter(new FileWriter("oneF.txt"));
+			max = new MatrixWriter(new FileWriter("max.txt"));
+			none = new MatrixWriter(new FileWriter("none.txt"));
+			aac = new MatrixWriter(new FileWriter("aac.txt"));
+			one = new MatrixWriter(new FileWriter("one.txt"));
+			oneF = new MatrixWriter(new FileWriter("oneF.txt"));
+			
+			writeDistMat(max, d1, m, layout);
+//			writeDistMat(aac, d2, m, layout);
+//			writeDistMat(one, d3, m, layout);
+//			writeDistMat(oneF, d4, m, layout);
+//			writeDistMat(none, d5, m, layout);
 			
-			max.write(distMatToString(d1));
-//			aac.write(distMatToString(d2));
-//			one.write(distMatToString(d3));
-//			oneF.write(distMatToString(d4));
-//			none.write(distMatToString(d5));
+			if(binary != null)
+				new DistanceFile(names(m), d1).write(binary, DistanceFile.Format.BINARY);
+			if(mds > 0) {
+				double[][] x = landmarks > 0 ? MDS.landmark(d1, landmarks, mds, seed) : MDS.classical(d1, mds);
+				MatrixWriter points = new MatrixWriter(new FileWriter("points.txt"));
+				points.points(x, names(m), DECIMALS).close();
+			}
+			if(linkage != null) {
+				MatrixWriter tree = new MatrixWriter(new FileWriter(linkage.name().toLowerCase() + ".nwk"));
+				tree.append(HierarchicalClustering.cluster(d1, linkage).toNewick(names(m))).append('\n').close();
+			}
 			
 			none.close();
 			max.close();
@@ -184,25 +286,29 @@ public class AACluster {
 //		System.out.println("MTART - MTZOA: " + AAModel.dist(new AAModel("MTART").scaleMax(), new AAModel("MTZOA").scaleMax()));
 	}
 	
-	private static String distMatToString(double[][] d) {
-		String s = "     ";
-		
-		for(int i = 0; i < m.length; i++) {
-			int l = m[i].name().length() > 4 ? 4 : m[i].name().length();
-			s += String.format("%4s ", m[i].name().substring(0, l));
-		}
-		
-		s+= "\n";
-		
-		for(int i = 0; i < d.length; i++) {
-			int l = m[i].name().length() > 4 ? 4 : m[i].name().length();
-			s += String.format("%4s ", m[i].name().subSequence(0, l));
-			for(int j = 0; j < d[i].length; j++) {
-				s += String.format("%4.0f ", d[i][j]);
-			}
-			s += "\n";
+	// d with a row and a column per model
+	private static void writeDistMat(MatrixWriter out, SymmetricMatrix d, AAModel[] m, MatrixWriter.Layout layout) throws IOException {
+		out.distances(d, names(m), layout, layout == MatrixWriter.Layout.TEXT ? 0 : DECIMALS);
+	}
+	
+	// every cluster followed by its models
+	private static void writeClusters(MatrixWriter out, String title, String[] heads, int[] assignment, AAModel[] m) throws IOException {
+		out.append(title).append(System.lineSeparator());
+		for(int c = 0; c < heads.length; c++) {
+			out.append(heads[c]).append(':');
+			for(int i = 0; i < m.length; i++)
+				if(assignment[i] == c)
+					out.append(' ').append(m[i].name);
+			out.append(System.lineSeparator());
 		}
-		return s;
+		out.flush();
+	}
+	
+	private static String[] names(AAModel[] m) {
+		String[] names = new String[m.length];
+		for(int i = 0; i < m.length; i++)
+			names[i] = m[i].name;
+		return names;
 	}
 	
 	/**
@@ -212,28 +318,17 @@ public class AACluster {
 	 * @param scaler multiply results with this value
 	 * @return
 	 */
-	public static double[][] scaleByMax(double[][] mat, double scaler) {
-		double max = 0;
-		
-		for (int i = 0; i < mat.length; i++)
-			for (int j = 0; j < mat.length; j++)
-				if (mat[i][j] > max)
-					max = mat[i][j];
-		
-		double s =  scaler / max;
-		
-		for (int i = 0; i < mat.length; i++)
-			for (int j = 0; j < mat.length; j++)
-				mat[i][j] *= s;
+	public static SymmetricMatrix scaleByMax(SymmetricMatrix mat, double scaler) {
+		// the diagonal counts as well
+		double max = Math.max(0, mat.max());
+		mat.scale(scaler / max);
 		return mat;
 	}
 	
-	public static double dist(double[][] a, double[][] b) {
+	public static double dist(SymmetricMatrix a, SymmetricMatrix b) {
 		double ssum = 0;
-		for(int i = 0; i < a.length; i++) {
-			for(int j = i + 1; j < a[i].length; j++) {
-				ssum += Math.pow(a[i][j] - b[i][j], 2);
-			}
+		for(long k = 0, e = a.entries(); k < e; k++) {
+			ssum += Math.pow(a.get(k) - b.get(k), 2);
 		}
 		return Math.sqrt(ssum);
 	}
@@ -0,0 +1,137 @@
+/**
+ * The rates of a set of packed models in a narrower Precision, for distance
+ * computations in that type. INT16 rates are codes of a single step for the
+ * whole set, max |rate| / 32767, so that the kernels subtract the codes
+ * directly and only scale the result.
+ *
+ * Only the metrics that look at the rates alone, EUCLIDEAN and MANHATTAN,
+ * have narrow kernels.
+ */
+public final class CompactModels {
+	private static final int LEVELS = Short.MAX_VALUE;
+	
+	private final Precision precision;
+	private final int n;
+	private final double[] doubles;
+	private final float[] floats;
+	private final short[] shorts;
+	private final double step;
+	
+	private CompactModels(Precision precision, int n, double[] doubles, float[] floats, short[] shorts, double step) {
+		this.precision = precision;
+		this.n = n;
+		this.doubles = doubles;
+		this.floats = floats;
+		this.shorts = shorts;
+		this.step = step;
+	}
+	
+	/**
+	 * the rates of models in precision p, DOUBLE keeps the rates of models
+	 * without a copy
+	 *
+	 * @param models
+	 * @param p
+	 * @return
+	 */
+	public static CompactModels of(PackedModels models, Precision p) {
+		double[] q = models.rates();
+		int n = models.size();
+		switch(p) {
+		case FLOAT:
+			float[] f = new float[q.length];
+			for(int k = 0; k < q.length; k++)
+				f[k] = (float) q[k];
+			return new CompactModels(p, n, null, f, null, 1);
+		case INT16:
+			double max = 0;
+			for(int k = 0; k < q.length; k++)
+				max = Math.max(max, Math.abs(q[k]));
+			double step = max == 0 ? 1 : max / LEVELS;
+			short[] s = new short[q.length];
+			for(int k = 0; k < q.length; k++)
+				s[k] = (short) Math.round(q[k] / step);
+			return new CompactModels(p, n, null, null, s, step);
+		default:
+			return new CompactModels(p, n, q, null, null, 1);
+		}
+	}
+	
+	/**
+	 * whether metric has a kernel for narrow rates
+	 *
+	 * @param metric
+	 * @return
+	 */
+	public static boolean supports(DistanceMetric metric) {
+		return metric == Metric.EUCLIDEAN || metric == Metric.MANHATTAN;
+	}
+	
+	public Precision precision() {
+		return precision;
+	}
+	
+	public int size() {
+		return n;
+	}
+	
+	/**
+	 * rate k of model i as stored
+	 *
+	 * @param i
+	 * @param k
+	 * @return
+	 */
+	public double rate(int i, int k) {
+		int x = i * AAModel.RATES + k;
+		switch(precision) {
+		case FLOAT:
+			return floats[x];
+		case INT16:
+			return shorts[x] * step;
+		default:
+			return doubles[x];
+		}
+	}
+	
+	public double euclidean(int i, int j) {
+		int a = i * AAModel.RATES, b = j * AAModel.RATES;
+		switch(precision) {
+		case FLOAT:
+			return Math.sqrt(DistanceKernels.squaredEuclidean(floats, a, floats, b, AAModel.RATES));
+		case INT16:
+			return Math.sqrt((double) DistanceKernels.squaredEuclidean(shorts, a, shorts, b, AAModel.RATES)) * step;
+		default:
+			return DistanceKernels.euclidean(doubles, a, doubles, b, AAModel.RATES);
+		}
+	}
+	
+	public double manhattan(int i, int j) {
+		int a = i * AAModel.RATES, b = j * AAModel.RATES;
+		switch(precision) {
+		case FLOAT:
+			return DistanceKernels.manhattan(floats, a, floats, b, AAModel.RATES);
+		case INT16:
+			return DistanceKernels.manhattan(shorts, a, shorts, b, AAModel.RATES) * step;
+		default:
+			return DistanceKernels.manhattan(doubles, a, doubles, b, AAModel.RATES);
+		}
+	}
+	
+	/**
+	 * the distance of models i and j with a metric that supports() narrow
+	 * rates
+	 *
+	 * @param i
+	 * @param j
+	 * @param metric
+	 * @return
+	 */
+	public double dist(int i, int j, DistanceMetric metric) {
+		if(metric == Metric.EUCLIDEAN)
+			return euclidean(i, j);
+		if(metric == Metric.MANHATTAN)
+			return manhattan(i, j);
+		throw new IllegalArgumentException("no " + precision + " kernel for metric " + metric.name());
+	}
+}
@@ -0,0 +1,211 @@
+import java.util.Arrays;
+
+/**
+ * The merges of an agglomerative clustering of n rows in order of height.
+ * Leaves are the ids 0 .. n-1, merge k creates the cluster n + k from
+ * left(k) and right(k). The tree can be cut at any height or into any
+ * number of clusters without clustering again.
+ */
+public final class Dendrogram {
+	// the separator of the two parts of a cluster on the toNewick() stack
+	private static final int COMMA = Integer.MIN_VALUE;
+	
+	private final int n;
+	private final int[] left, right, count;
+	private final double[] height;
+	
+	Dendrogram(int n, int[] left, int[] right, double[] height) {
+		this.n = n;
+		this.left = left;
+		this.right = right;
+		this.height = height;
+		count = new int[left.length];
+		for(int k = 0; k < left.length; k++)
+			count[k] = members(left[k]) + members(right[k]);
+	}
+	
+	private int members(int id) {
+		return id < n ? 1 : count[id - n];
+	}
+	
+	/**
+	 * @return the number of leaves
+	 */
+	public int size() {
+		return n;
+	}
+	
+	public int merges() {
+		return left.length;
+	}
+	
+	public int left(int k) {
+		return left[k];
+	}
+	
+	public int right(int k) {
+		return right[k];
+	}
+	
+	public double height(int k) {
+		return height[k];
+	}
+	
+	/**
+	 * @param k
+	 * @return the leaves below merge k
+	 */
+	public int count(int k) {
+		return count[k];
+	}
+	
+	/**
+	 * the clusters left after all merges up to height h
+	 *
+	 * @param h
+	 * @return the cluster of every leaf, numbered from 0 in the order of their
+	 * first leaf
+	 */
+	public int[] cut(double h) {
+		int k = 0;
+		while(k < height.length && height[k] <= h)
+			k++;
+		return labels(k);
+	}
+	
+	/**
+	 * the tree cut into the given number of clusters, as cutree(k = clusters)
+	 * in R
+	 *
+	 * @param clusters 1 .. size()
+	 * @return the cluster of every leaf, numbered from 0 in the order of their
+	 * first leaf
+	 */
+	public int[] cutInto(int clusters) {
+		if(clusters < Math.min(1, n) || clusters > n)
+			throw new IllegalArgumentException(clusters + " clusters of " + n + " leaves");
+		return labels(n - clusters);
+	}
+	
+	// the clusters after the first k merges
+	private int[] labels(int k) {
+		// union find over leaves and merges, every merge points to itself
+		int[] parent = new int[n + k];
+		for(int i = 0; i < parent.length; i++)
+			parent[i] = i;
+		for(int m = 0; m < k; m++)
+			parent[left[m]] = parent[right[m]] = n + m;
+		int[] label = new int[n], root = new int[n + k];
+		Arrays.fill(root, -1);
+		int next = 0;
+		for(int i = 0; i < n; i++) {
+			int r = i;
+			while(parent[r] != r)
+				r = parent[r];
+			// compress the path
+			for(int x = i; parent[x] != r; ) {
+				int p = parent[x];
+				parent[x] = r;
+				x = p;
+			}
+			if(root[r] < 0)
+				root[r] = next++;
+			label[i] = root[r];
+		}
+		return label;
+	}
+	
+	/**
+	 * @return the leaves from left to right as a plot of the tree shows them
+	 */
+	public int[] order() {
+		int[] order = new int[n];
+		if(n == 0)
+			return order;
+		int[] stack = new int[n];
+		int top = 0, o = 0;
+		stack[top++] = n + left.length - 1;
+		while(top > 0) {
+			int id = stack[--top];
+			if(id < n)
+				order[o++] = id;
+			else {
+				stack[top++] = right[id - n];
+				stack[top++] = left[id - n];
+			}
+		}
+		return order;
+	}
+	
+	/**
+	 * the tree in Newick format, branch lengths are differences of heights
+	 *
+	 * @param names of the leaves
+	 * @return
+	 */
+	public String toNewick(String[] names) {
+		if(names.length != n)
+			throw new IllegalArgumentException(names.length + " names for " + n + " leaves");
+		FixedFormat f = new FixedFormat(1, 6, 0, false);
+		char[] num = new char[f.maxLength()];
+		StringBuilder s = new StringBuilder();
+		if(n == 0)
+			return ";";
+		if(n == 1) {
+			name(s, names[0]);
+			return s.append(';').toString();
+		}
+		int[] parent = new int[n + left.length];
+		parent[n + left.length - 1] = -1;
+		for(int k = 0; k < left.length; k++)
+			parent[left[k]] = parent[right[k]] = n + k;
+		// ids to write, -(id + 1) closes the cluster id
+		int[] stack = new int[3 * n + 1];
+		int top = 0;
+		stack[top++] = n + left.length - 1;
+		while(top > 0) {
+			int id = stack[--top];
+			if(id == COMMA) {
+				s.append(',');
+				continue;
+			}
+			if(id >= n) {
+				s.append('(');
+				stack[top++] = -(id + 1);
+				stack[top++] = right[id - n];
+				stack[top++] = COMMA;
+				stack[top++] = left[id - n];
+				continue;
+			}
+			if(id >= 0)
+				name(s, names[id]);
+			else {
+				id = -id - 1;
+				s.append(')');
+			}
+			if(parent[id] >= 0) {
+				double b = height[parent[id] - n] - (id < n ? 0 : height[id - n]);
+				s.append(':').append(num, 0, f.format(b, num, 0));
+			}
+		}
+		return s.append(';').toString();
+	}
+	
+	// quoted if it holds a character Newick reserves
+	private static void name(StringBuilder s, String name) {
+		boolean plain = name.length() > 0;
+		for(int i = 0; i < name.length() && plain; i++)
+			plain = " \t\n(),:;[]'".indexOf(name.charAt(i)) < 0;
+		if(plain) {
+			s.append(name);
+			return;
+		}
+		s.append('\'');
+		for(int i = 0; i < name.length(); i++) {
+			if(name.charAt(i) == '\'')
+				s.append('\'');
+			s.append(name.charAt(i));
+		}
+		s.append('\'');
+	}
+}
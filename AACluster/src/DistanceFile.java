@@ -0,0 +1,243 @@
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+
+/**
+ * A distance matrix with the names of its rows, as it is handed from one
+ * pipeline stage to the next in a file. Two formats are written:
+ *
+ * - BINARY: a MappedMatrix file, the header and the packed triangle in the
+ *   precision of the matrix, followed by the names, each a little endian
+ *   short length and the UTF-8 bytes. map() reads it without copying.
+ * - PHYLIP and PHYLIP_LOWER: the square or lower triangular PHYLIP distance
+ *   matrix as MatrixWriter writes it, names must not contain blanks.
+ *
+ * Both are written through a FileChannel, read() detects the format.
+ */
+public final class DistanceFile {
+	public enum Format {
+		BINARY,
+		PHYLIP,
+		PHYLIP_LOWER
+	}
+	
+	// digits after the point in PHYLIP files
+	public static final int DECIMALS = 6;
+	
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+	private static final int BUFFER = 1 << 16;
+	
+	private final String[] names;
+	private final SymmetricMatrix matrix;
+	
+	public DistanceFile(String[] names, SymmetricMatrix matrix) {
+		if(names.length != matrix.size())
+			throw new IllegalArgumentException(names.length + " names for " + matrix.size() + " rows");
+		this.names = names;
+		this.matrix = matrix;
+	}
+	
+	public String[] names() {
+		return names;
+	}
+	
+	public SymmetricMatrix matrix() {
+		return matrix;
+	}
+	
+	/**
+	 * @param file
+	 * @param format
+	 * @throws IOException
+	 * @throws IllegalArgumentException if a name is empty or contains blanks
+	 * or control characters and format is PHYLIP or PHYLIP_LOWER, read()
+	 * could not tell it from the distances
+	 */
+	public void write(File file, Format format) throws IOException {
+		if(format != Format.BINARY)
+			for(String name : names)
+				checkPhylipName(name);
+		RandomAccessFile raf = new RandomAccessFile(file, "rw");
+		try {
+			FileChannel ch = raf.getChannel();
+			ch.truncate(0);
+			if(format == Format.BINARY)
+				writeBinary(ch);
+			else {
+				MatrixWriter w = new MatrixWriter(Channels.newWriter(ch, UTF8.newEncoder(), BUFFER));
+				w.distances(matrix, names, format == Format.PHYLIP ? MatrixWriter.Layout.PHYLIP : MatrixWriter.Layout.PHYLIP_LOWER, DECIMALS);
+				w.flush();
+			}
+		} finally {
+			raf.close();
+		}
+	}
+	
+	// a single token as Tokenizer splits the text
+	private static void checkPhylipName(String name) {
+		if(name.isEmpty())
+			throw new IllegalArgumentException("empty name in a PHYLIP file");
+		for(int i = 0; i < name.length(); i++)
+			if(name.charAt(i) <= ' ')
+				throw new IllegalArgumentException("name with blanks in a PHYLIP file: \"" + name + "\"");
+	}
+	
+	private void writeBinary(FileChannel ch) throws IOException {
+		Precision p = matrix.precision();
+		double step = matrix.step();
+		ByteBuffer b = ByteBuffer.allocateDirect(BUFFER).order(ByteOrder.LITTLE_ENDIAN);
+		MappedMatrix.header(b, names.length, p, step);
+		long e = matrix.entries();
+		switch(p) {
+		case FLOAT:
+			for(long k = 0; k < e; k++) {
+				if(b.remaining() < 4)
+					drain(ch, b);
+				b.putFloat((float) matrix.get(k));
+			}
+			break;
+		case INT16:
+			for(long k = 0; k < e; k++) {
+				if(b.remaining() < 2)
+					drain(ch, b);
+				b.putShort((short) Math.round(matrix.get(k) / step));
+			}
+			break;
+		default:
+			for(long k = 0; k < e; k++) {
+				if(b.remaining() < 8)
+					drain(ch, b);
+				b.putDouble(matrix.get(k));
+			}
+		}
+		for(String name : names) {
+			byte[] s = name.getBytes(UTF8);
+			if(s.length > Short.MAX_VALUE)
+				throw new IllegalArgumentException("name too long: " + name.substring(0, 32) + "...");
+			if(b.remaining() < 2 + s.length)
+				drain(ch, b);
+			b.putShort((short) s.length).put(s);
+		}
+		drain(ch, b);
+	}
+	
+	// writes and clears b
+	private static void drain(FileChannel ch, ByteBuffer b) throws IOException {
+		b.flip();
+		while(b.hasRemaining())
+			ch.write(b);
+		b.clear();
+	}
+	
+	/**
+	 * reads a BINARY or PHYLIP file into the heap
+	 *
+	 * @param file
+	 * @return
+	 * @throws IOException
+	 */
+	public static DistanceFile read(File file) throws IOException {
+		if(isBinary(file)) {
+			DistanceFile f = map(file);
+			return new DistanceFile(f.names, f.matrix.copy());
+		}
+		InputStreamReader in = new InputStreamReader(new FileInputStream(file), UTF8);
+		try {
+			return readPhylip(new Tokenizer(in), file);
+		} finally {
+			in.close();
+		}
+	}
+	
+	/**
+	 * maps the matrix of a BINARY file, only the names are read
+	 *
+	 * @param file
+	 * @return
+	 * @throws IOException
+	 */
+	public static DistanceFile map(File file) throws IOException {
+		MappedMatrix m = MappedMatrix.open(file, false);
+		int n = m.size();
+		String[] names = new String[n];
+		RandomAccessFile raf = new RandomAccessFile(file, "r");
+		try {
+			FileChannel ch = raf.getChannel();
+			long pos = MappedMatrix.HEADER + m.entries() * m.precision().bytes;
+			ByteBuffer b = ByteBuffer.allocate((int) Math.min(Integer.MAX_VALUE, ch.size() - pos)).order(ByteOrder.LITTLE_ENDIAN);
+			while(b.hasRemaining() && ch.read(b, pos + b.position()) > 0);
+			b.flip();
+			for(int i = 0; i < n; i++) {
+				if(b.remaining() < 2)
+					throw new IOException(file + ": truncated, expected " + n + " names");
+				int l = b.getShort();
+				if(l < 0 || b.remaining() < l)
+					throw new IOException(file + ": corrupt name " + i);
+				names[i] = new String(b.array(), b.position(), l, UTF8);
+				b.position(b.position() + l);
+			}
+		} finally {
+			raf.close();
+		}
+		return new DistanceFile(names, m);
+	}
+	
+	private static boolean isBinary(File file) throws IOException {
+		FileInputStream in = new FileInputStream(file);
+		try {
+			byte[] magic = new byte[MappedMatrix.MAGIC.length];
+			int l = 0, r;
+			while(l < magic.length && (r = in.read(magic, l, magic.length - l)) > 0)
+				l += r;
+			for(int i = 0; i < magic.length; i++)
+				if(l < magic.length || magic[i] != MappedMatrix.MAGIC[i])
+					return false;
+			return true;
+		} finally {
+			in.close();
+		}
+	}
+	
+	// square or lower triangle, the empty first row of a lower triangle
+	// leaves the second name on a line of its own
+	private static DistanceFile readPhylip(Tokenizer t, File file) throws IOException {
+		if(!t.next() || !t.isNumber() || t.number() < 0 || t.number() != (int) t.number())
+			throw new IOException(file + ": no PHYLIP distance matrix");
+		int n = (int) t.number();
+		String[] names = new String[n];
+		SymmetricMatrix d = SymmetricMatrix.ofDoubles(n);
+		boolean lower = false, have = false;
+		for(int i = 0; i < n; i++) {
+			if(!have && !t.next())
+				throw new IOException(file + ": truncated, expected " + n + " rows");
+			have = false;
+			names[i] = t.text(0, t.length());
+			if(i == 0 && n > 1) {
+				int line = t.line();
+				if(!t.next())
+					throw new IOException(file + ": truncated, expected " + n + " rows");
+				have = true;
+				lower = t.line() != line;
+				if(lower)
+					continue;
+			}
+			for(int j = 0, m = lower ? i : n; j < m; j++) {
+				if(!have && !t.next())
+					throw new IOException(file + ": truncated in row " + names[i]);
+				have = false;
+				if(!t.isNumber())
+					throw new IOException(file + ":" + t.line() + ": expected a distance");
+				if(j < i)
+					d.set(SymmetricMatrix.index(j, i), t.number());
+			}
+		}
+		return new DistanceFile(names, d);
+	}
+}
@@ -0,0 +1,180 @@
+/**
+ * Distance kernels over packed rate vectors, e.g. the AAModel.RATES upper
+ * triangle rates of a model or a slice of a packed library.
+ * 
+ * The loops run four independent accumulators so that the JIT can keep them
+ * in vector registers, there are no Math.pow calls in the inner loops.
+ */
+public final class DistanceKernels {
+	private DistanceKernels() {
+	}
+	
+	public static double euclidean(double[] a, int aOff, double[] b, int bOff, int n) {
+		return Math.sqrt(squaredEuclidean(a, aOff, b, bOff, n));
+	}
+	
+	public static double squaredEuclidean(double[] a, int aOff, double[] b, int bOff, int n) {
+		return squaredEuclidean(a, aOff, b, bOff, n, Double.POSITIVE_INFINITY);
+	}
+	
+	/**
+	 * the squared euclidean distance, the scan stops early once the partial
+	 * sum exceeds bound. A result above bound is only a lower bound of the
+	 * actual distance, any other result is the same for every bound.
+	 */
+	public static double squaredEuclidean(double[] a, int aOff, double[] b, int bOff, int n, double bound) {
+		double s = 0;
+		int k = 0;
+		// blocks of 16 keep the inner loop free of branches
+		for(; k + 15 < n; k += 16) {
+			double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+			for(int e = k; e < k + 16; e += 4) {
+				double d0 = a[aOff + e] - b[bOff + e];
+				double d1 = a[aOff + e + 1] - b[bOff + e + 1];
+				double d2 = a[aOff + e + 2] - b[bOff + e + 2];
+				double d3 = a[aOff + e + 3] - b[bOff + e + 3];
+				s0 += d0 * d0;
+				s1 += d1 * d1;
+				s2 += d2 * d2;
+				s3 += d3 * d3;
+			}
+			s += (s0 + s1) + (s2 + s3);
+			if(s > bound)
+				return s;
+		}
+		for(; k < n; k++) {
+			double d = a[aOff + k] - b[bOff + k];
+			s += d * d;
+		}
+		return s;
+	}
+	
+	public static double manhattan(double[] a, int aOff, double[] b, int bOff, int n) {
+		double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+		int k = 0;
+		for(; k + 3 < n; k += 4) {
+			s0 += Math.abs(a[aOff + k] - b[bOff + k]);
+			s1 += Math.abs(a[aOff + k + 1] - b[bOff + k + 1]);
+			s2 += Math.abs(a[aOff + k + 2] - b[bOff + k + 2]);
+			s3 += Math.abs(a[aOff + k + 3] - b[bOff + k + 3]);
+		}
+		for(; k < n; k++)
+			s0 += Math.abs(a[aOff + k] - b[bOff + k]);
+		return (s0 + s1) + (s2 + s3);
+	}
+	
+	/**
+	 * the squared euclidean distance in float arithmetic
+	 */
+	public static float squaredEuclidean(float[] a, int aOff, float[] b, int bOff, int n) {
+		float s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+		int k = 0;
+		for(; k + 3 < n; k += 4) {
+			float d0 = a[aOff + k] - b[bOff + k];
+			float d1 = a[aOff + k + 1] - b[bOff + k + 1];
+			float d2 = a[aOff + k + 2] - b[bOff + k + 2];
+			float d3 = a[aOff + k + 3] - b[bOff + k + 3];
+			s0 += d0 * d0;
+			s1 += d1 * d1;
+			s2 += d2 * d2;
+			s3 += d3 * d3;
+		}
+		for(; k < n; k++) {
+			float d = a[aOff + k] - b[bOff + k];
+			s0 += d * d;
+		}
+		return (s0 + s1) + (s2 + s3);
+	}
+	
+	/**
+	 * the squared euclidean distance of int16 codes in steps squared, exact
+	 * for every n below 2^33
+	 */
+	public static long squaredEuclidean(short[] a, int aOff, short[] b, int bOff, int n) {
+		long s0 = 0, s1 = 0;
+		int k = 0;
+		for(; k + 1 < n; k += 2) {
+			int d0 = a[aOff + k] - b[bOff + k];
+			int d1 = a[aOff + k + 1] - b[bOff + k + 1];
+			s0 += (long) d0 * d0;
+			s1 += (long) d1 * d1;
+		}
+		if(k < n) {
+			int d = a[aOff + k] - b[bOff + k];
+			s0 += (long) d * d;
+		}
+		return s0 + s1;
+	}
+	
+	public static float manhattan(float[] a, int aOff, float[] b, int bOff, int n) {
+		float s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+		int k = 0;
+		for(; k + 3 < n; k += 4) {
+			s0 += Math.abs(a[aOff + k] - b[bOff + k]);
+			s1 += Math.abs(a[aOff + k + 1] - b[bOff + k + 1]);
+			s2 += Math.abs(a[aOff + k + 2] - b[bOff + k + 2]);
+			s3 += Math.abs(a[aOff + k + 3] - b[bOff + k + 3]);
+		}
+		for(; k < n; k++)
+			s0 += Math.abs(a[aOff + k] - b[bOff + k]);
+		return (s0 + s1) + (s2 + s3);
+	}
+	
+	/**
+	 * the manhattan distance of int16 codes in steps
+	 */
+	public static long manhattan(short[] a, int aOff, short[] b, int bOff, int n) {
+		long s0 = 0, s1 = 0;
+		int k = 0;
+		for(; k + 1 < n; k += 2) {
+			s0 += Math.abs(a[aOff + k] - b[bOff + k]);
+			s1 += Math.abs(a[aOff + k + 1] - b[bOff + k + 1]);
+		}
+		if(k < n)
+			s0 += Math.abs(a[aOff + k] - b[bOff + k]);
+		return s0 + s1;
+	}
+	
+	/**
+	 * the mean of (a_k - b_k) / (a_k + b_k), see AAModel.relDist()
+	 */
+	public static double relDist(double[] a, int aOff, double[] b, int bOff, int n) {
+		double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+		int k = 0;
+		for(; k + 3 < n; k += 4) {
+			double a0 = a[aOff + k], b0 = b[bOff + k];
+			double a1 = a[aOff + k + 1], b1 = b[bOff + k + 1];
+			double a2 = a[aOff + k + 2], b2 = b[bOff + k + 2];
+			double a3 = a[aOff + k + 3], b3 = b[bOff + k + 3];
+			s0 += (a0 - b0) / (a0 + b0);
+			s1 += (a1 - b1) / (a1 + b1);
+			s2 += (a2 - b2) / (a2 + b2);
+			s3 += (a3 - b3) / (a3 + b3);
+		}
+		for(; k < n; k++)
+			s0 += (a[aOff + k] - b[bOff + k]) / (a[aOff + k] + b[bOff + k]);
+		return ((s0 + s1) + (s2 + s3)) / n;
+	}
+	
+	/**
+	 * the mean of |a_k - b_k| / (a_k + b_k), a rate of 0 in both counts as
+	 * no difference. Unlike relDist() it is symmetric and never NaN, as a
+	 * distance matrix needs.
+	 */
+	public static double absRelDist(double[] a, int aOff, double[] b, int bOff, int n) {
+		double s0 = 0, s1 = 0;
+		int k = 0;
+		for(; k + 1 < n; k += 2) {
+			s0 += absRel(a[aOff + k], b[bOff + k]);
+			s1 += absRel(a[aOff + k + 1], b[bOff + k + 1]);
+		}
+		if(k < n)
+			s0 += absRel(a[aOff + k], b[bOff + k]);
+		return (s0 + s1) / n;
+	}
+	
+	private static double absRel(double a, double b) {
+		double s = a + b;
+		return s == 0 ? 0 : Math.abs(a - b) / s;
+	}
+}
@@ -0,0 +1,267 @@
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Computes all pairwise model distances in parallel, by default with the
+ * euclidean Metric.
+ * 
+ * Only the strict upper triangle is computed. It is cut into TILE x TILE
+ * tiles that are processed on a ForkJoinPool, every tile writes its own
+ * disjoint entries of the SymmetricMatrix results, so no locking is
+ * needed. The rates of all models are copied into one contiguous array
+ * first, a tile then works on two small, cache resident blocks of models.
+ */
+public final class DistanceMatrixEngine {
+	// models per tile side, 64 models are 2 x 97KB of rates
+	public static final int TILE = 64;
+	// 4 tiles are 16k distances, far more than a task costs, and a matrix
+	// of 1000 models still splits into 34 parts
+	private static final int LEAF_TILES = 4;
+	
+	private final ForkJoinPool pool;
+	// storage of the rates the kernels work on and of the results
+	private final Precision models, matrix;
+	
+	public DistanceMatrixEngine() {
+		this(Parallel.POOL);
+	}
+	
+	public DistanceMatrixEngine(ForkJoinPool pool) {
+		this(pool, Precision.DOUBLE, Precision.DOUBLE);
+	}
+	
+	/**
+	 * @param pool
+	 * @param models the precision distances are computed in, anything but
+	 * DOUBLE needs a metric with narrow kernels (see CompactModels)
+	 * @param matrix the precision of the results, INT16 takes a second pass
+	 * to find the range first
+	 */
+	public DistanceMatrixEngine(ForkJoinPool pool, Precision models, Precision matrix) {
+		this.pool = pool;
+		this.models = models;
+		this.matrix = matrix;
+	}
+	
+	/**
+	 * the euclidean distances between all models
+	 * 
+	 * @param models
+	 * @return
+	 */
+	public SymmetricMatrix compute(AAModel[] models) {
+		return compute(models, Metric.EUCLIDEAN);
+	}
+	
+	public SymmetricMatrix compute(AAModel[] models, DistanceMetric metric) {
+		return run(new PackedModels[] {PackedModels.of(models)}, metric)[0];
+	}
+	
+	/**
+	 * the distances between all models in a MappedMatrix file, tiles are
+	 * written into the mapping as they are done
+	 * 
+	 * @param models
+	 * @param metric
+	 * @param file created or overwritten
+	 * @return
+	 * @throws IOException
+	 */
+	public MappedMatrix compute(AAModel[] models, DistanceMetric metric, File file) throws IOException {
+		return (MappedMatrix) run(new PackedModels[] {PackedModels.of(models)}, metric, new File[] {file})[0];
+	}
+	
+	public SymmetricMatrix[] computeAll(AAModel[] models) {
+		return computeAll(models, Metric.EUCLIDEAN);
+	}
+	
+	/**
+	 * the distances between all models for every Normalization at once.
+	 * Every model is read and normalized once, then a single pass over all
+	 * pairs fills all matrices.
+	 * 
+	 * @param models unscaled models
+	 * @param metric
+	 * @return the matrices, indexed by Normalization.ordinal()
+	 */
+	public SymmetricMatrix[] computeAll(AAModel[] models, DistanceMetric metric) {
+		return run(variants(models), metric);
+	}
+	
+	/**
+	 * as computeAll(), but every matrix lives in a MappedMatrix file in dir
+	 * named after its Normalization, e.g. max.aasm, so that the heap does not
+	 * depend on the number of models
+	 * 
+	 * @param models
+	 * @param metric
+	 * @param dir
+	 * @return
+	 * @throws IOException
+	 */
+	public SymmetricMatrix[] computeAll(AAModel[] models, DistanceMetric metric, File dir) throws IOException {
+		File[] files = new File[Normalizer.VARIANTS];
+		for(Normalization n : Normalization.values())
+			files[n.ordinal()] = new File(dir, n.name().toLowerCase() + ".aasm");
+		return run(variants(models), metric, files);
+	}
+	
+	// the models in every normalization
+	private static PackedModels[] variants(AAModel[] models) {
+		int n = models.length;
+		int v = Normalizer.VARIANTS;
+		PackedModels raw = PackedModels.of(models);
+		double[][] rates = new double[v][n * AAModel.RATES];
+		Normalizer norm = new Normalizer();
+		for(int i = 0; i < n; i++)
+			norm.normalizeAll(raw.rates(), i * AAModel.RATES, raw.frequencies(), i * PackedModels.FREQS, rates, i * AAModel.RATES);
+		
+		PackedModels[] sets = new PackedModels[v];
+		for(int x = 0; x < v; x++)
+			sets[x] = raw.withRates(rates[x]);
+		return sets;
+	}
+	
+	/**
+	 * the largest deviation of every combination of model and matrix
+	 * Precision from the all DOUBLE results, absolute and relative to the
+	 * largest distance, i.e. as it is left after AACluster.scaleByMax()
+	 * 
+	 * @param models
+	 * @param metric
+	 * @return
+	 */
+	public String precisionReport(AAModel[] models, DistanceMetric metric) {
+		SymmetricMatrix ref = new DistanceMatrixEngine(pool).compute(models, metric);
+		double range = Math.max(0, Math.max(ref.max(), -ref.min()));
+		StringBuilder s = new StringBuilder();
+		s.append(String.format("%d models, %s, largest distance %.6g%n", models.length, metric.name(), range));
+		s.append(String.format("%-7s %-7s %10s %12s %12s%n", "models", "matrix", "MB", "max error", "relative"));
+		for(Precision pm : Precision.values())
+			for(Precision pd : Precision.values()) {
+				if(pm != Precision.DOUBLE && !CompactModels.supports(metric))
+					continue;
+				SymmetricMatrix d = new DistanceMatrixEngine(pool, pm, pd).compute(models, metric);
+				double err = 0;
+				for(long k = 0, e = ref.entries(); k < e; k++)
+					err = Math.max(err, Math.abs(d.get(k) - ref.get(k)));
+				s.append(String.format("%-7s %-7s %10.3f %12.3e %12.3e%n", pm, pd, ref.entries() * pd.bytes / 1e6, err, range == 0 ? 0 : err / range));
+			}
+		return s.toString();
+	}
+	
+	private SymmetricMatrix[] run(PackedModels[] sets, DistanceMetric metric) {
+		try {
+			return run(sets, metric, null);
+		} catch (IOException e) {
+			// heap matrices do no I/O
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	// into heap matrices or, with files, into mapped ones
+	private SymmetricMatrix[] run(PackedModels[] sets, DistanceMetric metric, File[] files) throws IOException {
+		int n = sets[0].size();
+		Pairs[] pairs = new Pairs[sets.length];
+		for(int x = 0; x < sets.length; x++)
+			pairs[x] = pairs(sets[x], metric);
+		int blocks = (n + TILE - 1) / TILE;
+		int[] tiles = new int[blocks * (blocks + 1)];
+		int t = 0;
+		for(int bi = 0; bi < blocks; bi++)
+			for(int bj = bi; bj < blocks; bj++) {
+				tiles[t++] = bi;
+				tiles[t++] = bj;
+			}
+		
+		double[] max = new double[sets.length];
+		// int16 results need their range before the first entry is stored
+		if(matrix == Precision.INT16)
+			max = Parallel.reduce(pool, 0, t / 2, LEAF_TILES, new Tiles(pairs, null, n, tiles));
+		SymmetricMatrix[] d = new SymmetricMatrix[sets.length];
+		for(int x = 0; x < d.length; x++)
+			d[x] = files == null ? SymmetricMatrix.of(n, matrix, max[x]) : MappedMatrix.create(files[x], n, matrix, max[x]);
+		Parallel.reduce(pool, 0, t / 2, LEAF_TILES, new Tiles(pairs, d, n, tiles));
+		if(files != null)
+			for(SymmetricMatrix m : d)
+				((MappedMatrix) m).flush();
+		return d;
+	}
+	
+	// the distances within one set of models in the model precision
+	private Pairs pairs(final PackedModels set, final DistanceMetric metric) {
+		if(models == Precision.DOUBLE)
+			return new Pairs() {
+				private final double[] q = set.rates(), f = set.frequencies();
+				
+				@Override
+				public double dist(int i, int j) {
+					return metric.dist(q, i * AAModel.RATES, f, i * PackedModels.FREQS, q, j * AAModel.RATES, f, j * PackedModels.FREQS);
+				}
+			};
+		if(!CompactModels.supports(metric))
+			throw new IllegalArgumentException("no " + models + " kernel for metric " + metric.name());
+		final CompactModels c = CompactModels.of(set, models);
+		return new Pairs() {
+			@Override
+			public double dist(int i, int j) {
+				return c.dist(i, j, metric);
+			}
+		};
+	}
+	
+	private interface Pairs {
+		double dist(int i, int j);
+	}
+	
+	// fills tiles of d and returns the largest absolute distance per set,
+	// without d it only finds that
+	private static final class Tiles implements Parallel.Reduction<double[]> {
+		// one per matrix
+		private final Pairs[] pairs;
+		private final SymmetricMatrix[] d;
+		private final int n;
+		// pairs of block row and block column
+		private final int[] tiles;
+		
+		Tiles(Pairs[] pairs, SymmetricMatrix[] d, int n, int[] tiles) {
+			this.pairs = pairs;
+			this.d = d;
+			this.n = n;
+			this.tiles = tiles;
+		}
+		
+		@Override
+		public double[] run(int from, int to) {
+			double[] max = new double[pairs.length];
+			for(int t = from; t < to; t++)
+				tile(tiles[2 * t] * TILE, tiles[2 * t + 1] * TILE, max);
+			return max;
+		}
+		
+		@Override
+		public double[] combine(double[] left, double[] right) {
+			for(int x = 0; x < left.length; x++)
+				left[x] = Math.max(left[x], right[x]);
+			return left;
+		}
+		
+		// column by column, so that every column of the tile is written in order
+		private void tile(int i0, int j0, double[] max) {
+			int iEnd = Math.min(i0 + TILE, n), jEnd = Math.min(j0 + TILE, n);
+			for(int j = j0; j < jEnd; j++) {
+				int e = Math.min(iEnd, j);
+				long k = SymmetricMatrix.index(i0, j);
+				for(int i = i0; i < e; i++, k++)
+					for(int x = 0; x < pairs.length; x++) {
+						double v = pairs[x].dist(i, j);
+						if(Math.abs(v) > max[x])
+							max[x] = Math.abs(v);
+						if(d != null)
+							d[x].set(k, v);
+					}
+			}
+		}
+	}
+}
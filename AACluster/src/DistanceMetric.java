@@ -0,0 +1,38 @@
+/**
+ * A distance between two amino acid models. Implementations get the packed
+ * rates and the frequencies of both models, see Metric for the built in
+ * ones.
+ */
+public interface DistanceMetric {
+	/**
+	 * the name the metric is selected by
+	 * 
+	 * @return
+	 */
+	String name();
+	
+	/**
+	 * @param qa rates of model a starting at qaOff
+	 * @param qaOff
+	 * @param fa frequencies of model a starting at faOff
+	 * @param faOff
+	 * @param qb rates of model b starting at qbOff
+	 * @param qbOff
+	 * @param fb frequencies of model b starting at fbOff
+	 * @param fbOff
+	 * @return
+	 */
+	double dist(double[] qa, int qaOff, double[] fa, int faOff, double[] qb, int qbOff, double[] fb, int fbOff);
+	
+	double dist(AAModel a, AAModel b);
+	
+	/**
+	 * the distances from one model to every model of a library, an
+	 * implementation may prepare the query once for the whole scan
+	 * 
+	 * @param query
+	 * @param library
+	 * @param out receives the distance to model i at i
+	 */
+	void dist(AAModel query, PackedModels library, double[] out);
+}
@@ -0,0 +1,268 @@
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+/**
+ * Formats doubles with a fixed number of decimals straight into a char
+ * buffer, for the patterns the text output uses: DecimalFormat patterns
+ * like "#0000.00" and printf patterns like "%4.0f". The result is the same
+ * as theirs in an english locale, including the rounding: DecimalFormat
+ * rounds the exact binary value half even, Formatter rounds the shortest
+ * representation (Double.toString()) half up.
+ *
+ * Ties are resolved exactly in 128 bit integer arithmetic. Nothing is
+ * allocated unless a value needs 2^52 or more units of the last decimal, far
+ * beyond any rate or distance, or lies within half an ulp of a tie it does
+ * not hit exactly. Those few values are formatted by DecimalFormat or from
+ * Double.toString().
+ */
+public final class FixedFormat {
+	private static final long[] POW10 = new long[16];
+	private static final long[] POW5 = new long[16];
+	static {
+		POW10[0] = POW5[0] = 1;
+		for(int i = 1; i < POW10.length; i++) {
+			POW10[i] = POW10[i - 1] * 10;
+			POW5[i] = POW5[i - 1] * 5;
+		}
+	}
+	private static final long M32 = 0xFFFFFFFFL;
+	// digits of the largest double
+	private static final int MAX_DIGITS = 309;
+	
+	// the patterns of AAModel.toString() and matToString()
+	public static final FixedFormat RATE = pattern("#0000.00");
+	public static final FixedFormat FREQUENCY = pattern("#0.00");
+	
+	private final int intDigits, decimals, width;
+	// DecimalFormat rounding, otherwise Formatter rounding
+	private final boolean halfEven;
+	
+	/**
+	 * @param intDigits at least this many digits before the point, zero
+	 * padded
+	 * @param decimals exactly this many digits after the point, at most 15
+	 * @param width left padded with blanks to this many characters
+	 * @param halfEven round as DecimalFormat instead of as Formatter
+	 */
+	public FixedFormat(int intDigits, int decimals, int width, boolean halfEven) {
+		if(decimals < 0 || decimals >= POW10.length)
+			throw new IllegalArgumentException("unsupported number of decimals " + decimals);
+		this.intDigits = Math.max(1, intDigits);
+		this.decimals = decimals;
+		this.width = width;
+		this.halfEven = halfEven;
+	}
+	
+	/**
+	 * a DecimalFormat pattern of optional '#', '0's and optionally a '.'
+	 * followed by '0's
+	 *
+	 * @param p
+	 * @return
+	 */
+	public static FixedFormat pattern(String p) {
+		int i = 0, ints = 0, decs = 0;
+		while(i < p.length() && p.charAt(i) == '#')
+			i++;
+		for(; i < p.length() && p.charAt(i) == '0'; i++)
+			ints++;
+		if(i < p.length() && p.charAt(i) == '.')
+			for(i++; i < p.length() && p.charAt(i) == '0'; i++)
+				decs++;
+		if(i != p.length())
+			throw new IllegalArgumentException("unsupported pattern: " + p);
+		return new FixedFormat(ints, decs, 0, true);
+	}
+	
+	/**
+	 * a printf pattern "%[width].[decimals]f"
+	 *
+	 * @param p
+	 * @return
+	 */
+	public static FixedFormat printf(String p) {
+		int dot = p.indexOf('.');
+		if(!p.startsWith("%") || !p.endsWith("f") || dot < 0)
+			throw new IllegalArgumentException("unsupported pattern: " + p);
+		try {
+			int w = dot == 1 ? 0 : Integer.parseInt(p.substring(1, dot));
+			return new FixedFormat(1, Integer.parseInt(p.substring(dot + 1, p.length() - 1)), w, false);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("unsupported pattern: " + p);
+		}
+	}
+	
+	/**
+	 * room format() needs at most
+	 *
+	 * @return
+	 */
+	public int maxLength() {
+		return Math.max(width, 2 + Math.max(intDigits, MAX_DIGITS) + 1 + decimals);
+	}
+	
+	/**
+	 * formats v into dst
+	 *
+	 * @param v
+	 * @param dst with maxLength() chars of room at off
+	 * @param off
+	 * @return the end of the formatted number
+	 */
+	public int format(double v, char[] dst, int off) {
+		if(Double.isNaN(v))
+			return text("NaN", dst, off);
+		if(Double.isInfinite(v))
+			return text((v < 0 ? "-" : "") + (halfEven ? "\u221E" : "Infinity"), dst, off);
+		
+		// as DecimalFormat and Formatter a negative v keeps its sign when it
+		// rounds to 0
+		boolean neg = Double.doubleToRawLongBits(v) < 0;
+		double a = Math.abs(v);
+		double scaled = a * POW10[decimals];
+		if(scaled >= 1L << 52)
+			return huge(a, neg, dst, off);
+		long r = (long) scaled;
+		double frac = scaled - r;
+		// the product is off by at most one rounding, far from a tie that
+		// does not change the result
+		if(Math.abs(frac - 0.5) <= scaled * 0x1p-50) {
+			if(roundUp(a, r))
+				r++;
+		} else if(frac > 0.5)
+			r++;
+		
+		long ip = r / POW10[decimals], fp = r % POW10[decimals];
+		int id = Math.max(intDigits, digits(ip));
+		int len = (neg ? 1 : 0) + id + (decimals > 0 ? decimals + 1 : 0);
+		for(int k = len; k < width; k++)
+			dst[off++] = ' ';
+		if(neg)
+			dst[off++] = '-';
+		for(int k = off + id - 1; k >= off; k--, ip /= 10)
+			dst[k] = (char) ('0' + ip % 10);
+		off += id;
+		if(decimals > 0) {
+			dst[off++] = '.';
+			for(int k = off + decimals - 1; k >= off; k--, fp /= 10)
+				dst[k] = (char) ('0' + fp % 10);
+			off += decimals;
+		}
+		return off;
+	}
+	
+	/**
+	 * formats v into a new String
+	 *
+	 * @param v
+	 * @return
+	 */
+	public String format(double v) {
+		char[] c = new char[maxLength()];
+		return new String(c, 0, format(v, c, 0));
+	}
+	
+	/*
+	 * whether a * 10^decimals, whose integer part is r, rounds up. With
+	 * a = m * 2^-s that is m * 5^decimals compared to (2r + 1) * 2^(s - 1 -
+	 * decimals), both below 2^128.
+	 */
+	private boolean roundUp(double a, long r) {
+		long bits = Double.doubleToRawLongBits(a);
+		int exp = (int) (bits >>> 52) & 0x7FF;
+		long m = bits & ((1L << 52) - 1);
+		if(exp != 0)
+			m |= 1L << 52;
+		int s = 1075 - Math.max(exp, 1) - decimals;
+		if(s <= 0)
+			// an integer, no fraction at all
+			return false;
+		
+		// l = m * 5^decimals
+		long p5 = POW5[decimals];
+		long a0 = m & M32, a1 = m >>> 32, b0 = p5 & M32, b1 = p5 >>> 32;
+		long p00 = a0 * b0, p01 = a0 * b1, p10 = a1 * b0, p11 = a1 * b1;
+		long mid = (p00 >>> 32) + (p01 & M32) + (p10 & M32);
+		long lLo = (p00 & M32) | (mid << 32);
+		long lHi = p11 + (p01 >>> 32) + (p10 >>> 32) + (mid >>> 32);
+		
+		// t = (2r + 1) * 2^(s - 1), the tie
+		long x = 2 * r + 1;
+		int sh = s - 1;
+		if(64 - Long.numberOfLeadingZeros(x) + sh > 126)
+			return false;
+		long tHi = sh >= 64 ? x << (sh - 64) : sh == 0 ? 0 : x >>> (64 - sh);
+		long tLo = sh >= 64 ? 0 : x << sh;
+		
+		int cmp = lHi != tHi ? Long.compare(lHi, tHi) : Long.compare(lLo ^ Long.MIN_VALUE, tLo ^ Long.MIN_VALUE);
+		if(cmp == 0)
+			return !halfEven || (r & 1) == 1;
+		
+		// both round the digits of Double.toString(a). They are on the side
+		// of the tie a is on unless the tie is within half an ulp, 5^decimals
+		// / 2, or a quarter at the lower end of a binade. Only then the
+		// digits are needed.
+		long dLo, dHi;
+		if(cmp < 0) {
+			dLo = tLo - lLo;
+			dHi = tHi - lHi - (Long.compare(tLo ^ Long.MIN_VALUE, lLo ^ Long.MIN_VALUE) < 0 ? 1 : 0);
+		} else {
+			dLo = lLo - tLo;
+			dHi = lHi - tHi - (Long.compare(lLo ^ Long.MIN_VALUE, tLo ^ Long.MIN_VALUE) < 0 ? 1 : 0);
+		}
+		if(dHi != 0 || dLo < 0 || dLo > 1L << 40)
+			return cmp > 0;
+		long twice = cmp < 0 && m == 1L << 52 && exp > 1 ? 4 * dLo : 2 * dLo;
+		if(twice > p5)
+			return cmp > 0;
+		return Long.parseLong(slow(a).replace(".", "")) > r;
+	}
+	
+	// a as DecimalFormat or Formatter formats it, without blanks
+	private String slow(double a) {
+		if(halfEven) {
+			StringBuilder p = new StringBuilder("#");
+			for(int k = 0; k < intDigits; k++)
+				p.append('0');
+			if(decimals > 0)
+				p.append('.');
+			for(int k = 0; k < decimals; k++)
+				p.append('0');
+			return new DecimalFormat(p.toString(), DecimalFormatSymbols.getInstance(Locale.US)).format(a);
+		}
+		BigDecimal b = new BigDecimal(Double.toString(a));
+		return (b.scale() <= decimals ? b.setScale(decimals) : b.setScale(decimals, RoundingMode.HALF_UP)).toPlainString();
+	}
+	
+	// values with 2^52 units or more
+	private int huge(double a, boolean neg, char[] dst, int off) {
+		String s = slow(a);
+		int id = decimals > 0 ? s.indexOf('.') : s.length();
+		int zeros = Math.max(0, intDigits - id);
+		for(int k = (neg ? 1 : 0) + zeros + s.length(); k < width; k++)
+			dst[off++] = ' ';
+		if(neg)
+			dst[off++] = '-';
+		for(int k = 0; k < zeros; k++)
+			dst[off++] = '0';
+		s.getChars(0, s.length(), dst, off);
+		return off + s.length();
+	}
+	
+	private int text(String s, char[] dst, int off) {
+		for(int k = s.length(); k < width; k++)
+			dst[off++] = ' ';
+		s.getChars(0, s.length(), dst, off);
+		return off + s.length();
+	}
+	
+	private static int digits(long v) {
+		int d = 1;
+		while(d < POW10.length && v >= POW10[d])
+			d++;
+		return d;
+	}
+}
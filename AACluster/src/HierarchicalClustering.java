@@ -0,0 +1,146 @@
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Agglomerative clustering of a distance matrix with the nearest neighbor
+ * chain algorithm, O(n^2) time for the reducible linkages. The chain grows
+ * from any cluster to its nearest neighbor until two clusters are each
+ * others nearest neighbors, those are merged and the chain continues from
+ * the rest of it.
+ *
+ * The clusters are updated in place in a copy of the matrix, the merged
+ * cluster takes the slot of the lower of its two parts. The copy is kept
+ * where the matrix is, a MappedMatrix is copied to a temporary file next to
+ * its own, and in its precision, except that INT16 matrices are copied to
+ * FLOAT.
+ */
+public final class HierarchicalClustering {
+	
+	private HierarchicalClustering() {
+	}
+	
+	/**
+	 * clusters the rows of d
+	 *
+	 * @param d not changed
+	 * @param linkage
+	 * @return
+	 * @throws IOException if the working copy of a MappedMatrix cannot be
+	 * created next to it
+	 */
+	public static Dendrogram cluster(SymmetricMatrix d, Linkage linkage) throws IOException {
+		int n = d.size();
+		boolean squared = linkage.squared();
+		// merged distances leave the range the INT16 steps were made for
+		Precision p = d.precision() == Precision.INT16 ? Precision.FLOAT : d.precision();
+		File file = null;
+		SymmetricMatrix w;
+		if(d instanceof MappedMatrix) {
+			file = File.createTempFile("cluster", ".aasm", ((MappedMatrix) d).getFile().getAbsoluteFile().getParentFile());
+			file.deleteOnExit();
+			w = MappedMatrix.create(file, n, p, 0);
+		} else
+			w = SymmetricMatrix.of(n, p, 0);
+		try {
+			for(long k = 0, e = d.entries(); k < e; k++) {
+				double x = d.get(k);
+				w.set(k, squared ? x * x : x);
+			}
+			return merge(w, linkage);
+		} finally {
+			if(file != null)
+				file.delete();
+		}
+	}
+	
+	// clusters w in place, squared distances for a squared linkage
+	private static Dendrogram merge(SymmetricMatrix w, Linkage linkage) {
+		int n = w.size();
+		boolean squared = linkage.squared();
+		boolean[] active = new boolean[n];
+		Arrays.fill(active, true);
+		int[] size = new int[n], id = new int[n], chain = new int[n];
+		Arrays.fill(size, 1);
+		for(int i = 0; i < n; i++)
+			id[i] = i;
+		
+		// the merges in the order they happen, ids as in Dendrogram
+		final int[] left = new int[Math.max(0, n - 1)], right = new int[left.length];
+		final double[] height = new double[left.length];
+		int top = 0, first = 0;
+		for(int k = 0; k < left.length; k++) {
+			while(true) {
+				if(top == 0) {
+					while(!active[first])
+						first++;
+					chain[top++] = first;
+				}
+				int i = chain[top - 1], prev = top > 1 ? chain[top - 2] : -1;
+				// ties go to the previous cluster of the chain, which
+				// keeps the chain from cycling
+				int j = prev;
+				double best = prev < 0 ? Double.POSITIVE_INFINITY : w.get(i, prev);
+				for(int x = 0; x < n; x++) {
+					if(!active[x] || x == i)
+						continue;
+					double dx = w.get(i, x);
+					if(dx < best || j < 0) {
+						best = dx;
+						j = x;
+					}
+				}
+				if(j != prev) {
+					chain[top++] = j;
+					continue;
+				}
+				
+				top -= 2;
+				int s = Math.min(i, j), o = Math.max(i, j);
+				for(int x = 0; x < n; x++)
+					if(active[x] && x != i && x != j)
+						w.set(s, x, linkage.update(w.get(i, x), w.get(j, x), best, size[i], size[j], size[x]));
+				left[k] = Math.min(id[i], id[j]);
+				right[k] = Math.max(id[i], id[j]);
+				height[k] = squared ? Math.sqrt(Math.max(0, best)) : best;
+				size[s] = size[i] + size[j];
+				id[s] = n + k;
+				active[o] = false;
+				break;
+			}
+		}
+		
+		// heights in merge order, no merge below the merges it contains
+		// even after rounding
+		for(int k = 0; k < left.length; k++) {
+			if(left[k] >= n)
+				height[k] = Math.max(height[k], height[left[k] - n]);
+			if(right[k] >= n)
+				height[k] = Math.max(height[k], height[right[k] - n]);
+		}
+		Integer[] order = new Integer[left.length];
+		for(int k = 0; k < order.length; k++)
+			order[k] = k;
+		// stable, merges of equal height keep their order
+		Arrays.sort(order, new Comparator<Integer>() {
+			public int compare(Integer a, Integer b) {
+				return Double.compare(height[a], height[b]);
+			}
+		});
+		int[] rank = new int[left.length];
+		for(int k = 0; k < order.length; k++)
+			rank[order[k]] = k;
+		int[] l = new int[left.length], r = new int[left.length];
+		double[] h = new double[left.length];
+		for(int k = 0; k < order.length; k++) {
+			int m = order[k];
+			int a = left[m] < n ? left[m] : n + rank[left[m] - n];
+			int b = right[m] < n ? right[m] : n + rank[right[m] - n];
+			l[k] = Math.min(a, b);
+			r[k] = Math.max(a, b);
+			h[k] = height[m];
+		}
+		return new Dendrogram(n, l, r, h);
+	}
+}
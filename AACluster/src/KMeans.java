@@ -0,0 +1,272 @@
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * k-means of models in exchangeability space, the euclidean distance of
+ * the packed rates. The centroid of a cluster is the average of its
+ * members, AAModel.getRepresentative().
+ *
+ * The centroids are seeded by k-means++. The assignment follows Hamerly:
+ * every model keeps an upper bound of the distance to its centroid and a
+ * lower bound of the distance to all others, both are moved by the shifts
+ * of the centroids. A model is only compared to the centroids when the
+ * bounds no longer prove its assignment, which after the first iterations
+ * is rare. Assignments run in parallel, each model on its own, so the
+ * result only depends on the seed.
+ */
+public final class KMeans {
+	public static final int MAX_ITERATIONS = 100;
+	// once the bounds settle most models are skipped after one comparison,
+	// so a task needs a few hundred of them to do real work
+	private static final int LEAF = 256;
+	
+	private final ForkJoinPool pool;
+	private final long seed;
+	
+	/**
+	 * the clustering found
+	 */
+	public static final class Result {
+		private final AAModel[] centroids;
+		private final int[] assignment;
+		private final double cost;
+		private final int iterations;
+		
+		Result(AAModel[] centroids, int[] assignment, double cost, int iterations) {
+			this.centroids = centroids;
+			this.assignment = assignment;
+			this.cost = cost;
+			this.iterations = iterations;
+		}
+		
+		/**
+		 * @return the averages of the clusters, with uniform frequencies
+		 */
+		public AAModel[] centroids() {
+			return centroids;
+		}
+		
+		/**
+		 * @return the centroid of every model
+		 */
+		public int[] assignment() {
+			return assignment;
+		}
+		
+		/**
+		 * @return the sum of the squared distances of all models to their
+		 * centroid
+		 */
+		public double cost() {
+			return cost;
+		}
+		
+		public int iterations() {
+			return iterations;
+		}
+	}
+	
+	public KMeans(long seed) {
+		this(seed, Parallel.POOL);
+	}
+	
+	public KMeans(long seed, ForkJoinPool pool) {
+		this.seed = seed;
+		this.pool = pool;
+	}
+	
+	/**
+	 * clusters models into k clusters
+	 *
+	 * @param models
+	 * @param k 1 .. models.length
+	 * @return
+	 */
+	public Result cluster(AAModel[] models, int k) {
+		int n = models.length;
+		if(k < 1 || k > n)
+			throw new IllegalArgumentException(k + " clusters of " + n + " models");
+		State s = new State(PackedModels.of(models).rates(), n, k);
+		s.seed(new Random(seed));
+		
+		AAModel[] centroids = new AAModel[k];
+		int iterations = 0;
+		boolean changed = true;
+		while(changed && iterations < MAX_ITERATIONS) {
+			s.separate();
+			changed = Parallel.reduce(pool, 0, n, LEAF, s.new Assign(iterations == 0)) > 0;
+			iterations++;
+			s.update(models, centroids);
+		}
+		
+		double cost = 0;
+		for(int i = 0; i < n; i++) {
+			double d = DistanceKernels.euclidean(s.x, i * AAModel.RATES, s.c, s.a[i] * AAModel.RATES, AAModel.RATES);
+			cost += d * d;
+		}
+		return new Result(centroids, s.a.clone(), cost, iterations);
+	}
+	
+	/**
+	 * the k centroids of models
+	 *
+	 * @param models
+	 * @param k
+	 * @return
+	 */
+	public AAModel[] centroids(AAModel[] models, int k) {
+		return cluster(models, k).centroids();
+	}
+	
+	// the rates, the centroids and the bounds of every model
+	private static final class State {
+		final double[] x;
+		final int n, k;
+		// packed centroids
+		final double[] c;
+		// centroid of every model, upper and lower bound
+		final int[] a;
+		final double[] u, l;
+		// half the distance of every centroid to the nearest other one
+		final double[] half;
+		
+		State(double[] x, int n, int k) {
+			this.x = x;
+			this.n = n;
+			this.k = k;
+			c = new double[k * AAModel.RATES];
+			a = new int[n];
+			u = new double[n];
+			l = new double[n];
+			half = new double[k];
+		}
+		
+		// k-means++, every next centroid is a model drawn with probability
+		// proportional to its squared distance to the chosen ones
+		void seed(Random rnd) {
+			double[] d2 = new double[n];
+			Arrays.fill(d2, Double.POSITIVE_INFINITY);
+			int pick = rnd.nextInt(n);
+			for(int j = 0; j < k; j++) {
+				System.arraycopy(x, pick * AAModel.RATES, c, j * AAModel.RATES, AAModel.RATES);
+				double sum = 0;
+				for(int i = 0; i < n; i++) {
+					d2[i] = Math.min(d2[i], DistanceKernels.squaredEuclidean(x, i * AAModel.RATES, c, j * AAModel.RATES, AAModel.RATES));
+					sum += d2[i];
+				}
+				if(j + 1 == k)
+					break;
+				double r = rnd.nextDouble() * sum;
+				pick = -1;
+				for(int i = 0; i < n && r >= 0; i++)
+					if(d2[i] > 0) {
+						pick = i;
+						r -= d2[i];
+					}
+				// all models coincide with a centroid already
+				if(pick < 0)
+					pick = rnd.nextInt(n);
+			}
+		}
+		
+		void separate() {
+			Arrays.fill(half, Double.POSITIVE_INFINITY);
+			for(int p = 0; p < k; p++)
+				for(int q = p + 1; q < k; q++) {
+					double d = 0.5 * DistanceKernels.euclidean(c, p * AAModel.RATES, c, q * AAModel.RATES, AAModel.RATES);
+					half[p] = Math.min(half[p], d);
+					half[q] = Math.min(half[q], d);
+				}
+		}
+		
+		// the centroids of the members, the bounds moved by the shifts
+		void update(AAModel[] models, AAModel[] centroids) {
+			int[] count = new int[k];
+			for(int i = 0; i < n; i++)
+				count[a[i]]++;
+			AAModel[][] members = new AAModel[k][];
+			for(int j = 0; j < k; j++)
+				members[j] = new AAModel[count[j]];
+			Arrays.fill(count, 0);
+			for(int i = 0; i < n; i++)
+				members[a[i]][count[a[i]]++] = models[i];
+			
+			double[] shift = new double[k];
+			int far = 0;
+			for(int j = 0; j < k; j++) {
+				// an empty cluster keeps its centroid
+				AAModel rep = members[j].length > 0 ? AAModel.getRepresentative(members[j], "Cluster" + (j + 1)) : centroids[j];
+				if(rep == null)
+					rep = new AAModel("Cluster" + (j + 1), Arrays.copyOfRange(c, j * AAModel.RATES, (j + 1) * AAModel.RATES), uniform());
+				centroids[j] = rep;
+				shift[j] = DistanceKernels.euclidean(c, j * AAModel.RATES, rep.rates(), 0, AAModel.RATES);
+				System.arraycopy(rep.rates(), 0, c, j * AAModel.RATES, AAModel.RATES);
+				if(shift[j] > shift[far])
+					far = j;
+			}
+			double second = 0;
+			for(int j = 0; j < k; j++)
+				if(j != far)
+					second = Math.max(second, shift[j]);
+			for(int i = 0; i < n; i++) {
+				u[i] += shift[a[i]];
+				l[i] -= a[i] == far ? second : shift[far];
+			}
+		}
+		
+		private static double[] uniform() {
+			double[] f = new double[PackedModels.FREQS];
+			Arrays.fill(f, 1.0 / f.length);
+			return f;
+		}
+		
+		// assigns the models from to to, the number of changed assignments
+		final class Assign implements Parallel.Reduction<Integer> {
+			private final boolean first;
+			
+			Assign(boolean first) {
+				this.first = first;
+			}
+			
+			@Override
+			public Integer combine(Integer left, Integer right) {
+				return left + right;
+			}
+			
+			@Override
+			public Integer run(int from, int to) {
+				int changed = 0;
+				for(int i = from; i < to; i++) {
+					int off = i * AAModel.RATES;
+					if(!first) {
+						double bound = Math.max(half[a[i]], l[i]);
+						if(u[i] <= bound)
+							continue;
+						u[i] = DistanceKernels.euclidean(x, off, c, a[i] * AAModel.RATES, AAModel.RATES);
+						if(u[i] <= bound)
+							continue;
+					}
+					// ties go to the lower centroid
+					int best = 0;
+					double d1 = Double.POSITIVE_INFINITY, d2 = Double.POSITIVE_INFINITY;
+					for(int j = 0; j < k; j++) {
+						double d = DistanceKernels.euclidean(x, off, c, j * AAModel.RATES, AAModel.RATES);
+						if(d < d1) {
+							d2 = d1;
+							d1 = d;
+							best = j;
+						} else if(d < d2)
+							d2 = d;
+					}
+					if(first || best != a[i])
+						changed++;
+					a[i] = best;
+					u[i] = d1;
+					l[i] = d2;
+				}
+				return changed;
+			}
+		}
+	}
+}
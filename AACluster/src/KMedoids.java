@@ -0,0 +1,354 @@
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * k-medoids clustering, the medoids are actual models of the input.
+ *
+ * FastPAM starts from the greedy PAM BUILD and evaluates the swap of a
+ * candidate with all k medoids in one O(n) pass over the points, using the
+ * distances to the nearest and second nearest medoid. The candidates are
+ * evaluated in parallel, the best swap is applied until none lowers the
+ * total distance any more. This needs the full distance matrix.
+ *
+ * Model sets of more than CLARA_SIZE models are clustered CLARA style
+ * instead: FastPAM on SAMPLES random samples of 80 + 4k models, each
+ * sample holding the best medoids so far, the medoids with the lowest
+ * total distance over all models win.
+ */
+public final class KMedoids {
+	// more models are sampled, CLARA_SIZE^2 / 2 distances are kept at most
+	public static final int CLARA_SIZE = 4096;
+	public static final int SAMPLES = 5;
+	// a swap candidate costs a pass over all models, an assigned model k
+	// distances, 64 of either outweigh a task, and a CLARA sample still
+	// splits into 64 parts
+	private static final int LEAF = 64;
+	
+	private final DistanceMetric metric;
+	private final ForkJoinPool pool;
+	private final long seed;
+	
+	/**
+	 * the clustering found, medoids and assignments are indexes of the
+	 * clustered points
+	 */
+	public static final class Result {
+		private final int[] medoids, assignment;
+		private final double cost;
+		
+		Result(int[] medoids, int[] assignment, double cost) {
+			this.medoids = medoids;
+			this.assignment = assignment;
+			this.cost = cost;
+		}
+		
+		/**
+		 * @return the point of every medoid
+		 */
+		public int[] medoids() {
+			return medoids;
+		}
+		
+		/**
+		 * @return the medoid, an index into medoids(), of every point
+		 */
+		public int[] assignment() {
+			return assignment;
+		}
+		
+		/**
+		 * @return the sum of the distances of all points to their medoid
+		 */
+		public double cost() {
+			return cost;
+		}
+	}
+	
+	public KMedoids() {
+		this(Metric.EUCLIDEAN, 1);
+	}
+	
+	/**
+	 * @param metric
+	 * @param seed of the CLARA samples
+	 */
+	public KMedoids(DistanceMetric metric, long seed) {
+		this(metric, seed, Parallel.POOL);
+	}
+	
+	public KMedoids(DistanceMetric metric, long seed, ForkJoinPool pool) {
+		this.metric = metric;
+		this.seed = seed;
+		this.pool = pool;
+	}
+	
+	/**
+	 * the k models that represent models best
+	 *
+	 * @param models
+	 * @param k
+	 * @return
+	 */
+	public AAModel[] medoids(AAModel[] models, int k) {
+		int[] m = cluster(models, k).medoids();
+		AAModel[] r = new AAModel[m.length];
+		for(int i = 0; i < m.length; i++)
+			r[i] = models[m[i]];
+		return r;
+	}
+	
+	/**
+	 * clusters models with the metric, CLARA style beyond CLARA_SIZE models
+	 *
+	 * @param models
+	 * @param k
+	 * @return
+	 */
+	public Result cluster(AAModel[] models, int k) {
+		check(models.length, k);
+		DistanceMatrixEngine engine = new DistanceMatrixEngine(pool);
+		if(models.length <= CLARA_SIZE)
+			return cluster(engine.compute(models, metric), k);
+		
+		PackedModels all = PackedModels.of(models);
+		Random rnd = new Random(seed);
+		int s = Math.min(models.length, 80 + 4 * k);
+		Result best = null;
+		for(int t = 0; t < SAMPLES; t++) {
+			int[] sample = sample(models.length, s, best == null ? new int[0] : best.medoids, rnd);
+			AAModel[] sub = new AAModel[s];
+			for(int i = 0; i < s; i++)
+				sub[i] = models[sample[i]];
+			int[] medoids = cluster(engine.compute(sub, metric), k).medoids;
+			for(int i = 0; i < k; i++)
+				medoids[i] = sample[medoids[i]];
+			Result r = assign(all, medoids);
+			if(best == null || r.cost < best.cost)
+				best = r;
+		}
+		return best;
+	}
+	
+	// s distinct points, starting with keep, partial Fisher-Yates
+	private static int[] sample(int n, int s, int[] keep, Random rnd) {
+		int[] p = new int[n];
+		for(int i = 0; i < n; i++)
+			p[i] = i;
+		int c = 0;
+		for(int m : keep) {
+			// m is still at or after position c
+			int at = c;
+			while(p[at] != m)
+				at++;
+			p[at] = p[c];
+			p[c++] = m;
+		}
+		for(; c < s; c++) {
+			int r = c + rnd.nextInt(n - c);
+			int x = p[r];
+			p[r] = p[c];
+			p[c] = x;
+		}
+		return Arrays.copyOf(p, s);
+	}
+	
+	// every model assigned to its nearest medoid
+	private Result assign(PackedModels models, int[] medoids) {
+		int n = models.size();
+		int[] assignment = new int[n];
+		double[] dist = new double[n];
+		Parallel.forEach(pool, 0, n, LEAF, new Assign(metric, models, medoids, assignment, dist));
+		double cost = 0;
+		for(int i = 0; i < n; i++)
+			cost += dist[i];
+		return new Result(medoids.clone(), assignment, cost);
+	}
+	
+	private static final class Assign implements Parallel.Range {
+		private final DistanceMetric metric;
+		private final PackedModels models;
+		private final int[] medoids, assignment;
+		private final double[] dist;
+		
+		Assign(DistanceMetric metric, PackedModels models, int[] medoids, int[] assignment, double[] dist) {
+			this.metric = metric;
+			this.models = models;
+			this.medoids = medoids;
+			this.assignment = assignment;
+			this.dist = dist;
+		}
+		
+		@Override
+		public void run(int from, int to) {
+			double[] q = models.rates(), f = models.frequencies();
+			for(int i = from; i < to; i++) {
+				double best = Double.POSITIVE_INFINITY;
+				for(int m = 0; m < medoids.length; m++) {
+					int j = medoids[m];
+					double d = metric.dist(q, i * AAModel.RATES, f, i * PackedModels.FREQS, q, j * AAModel.RATES, f, j * PackedModels.FREQS);
+					if(d < best || m == 0) {
+						best = d;
+						assignment[i] = m;
+					}
+				}
+				dist[i] = best;
+			}
+		}
+	}
+	
+	/**
+	 * FastPAM on a distance matrix
+	 *
+	 * @param d
+	 * @param k 1 .. d.size()
+	 * @return
+	 */
+	public Result cluster(SymmetricMatrix d, int k) {
+		int n = d.size();
+		check(n, k);
+		State s = new State(d, k);
+		s.build();
+		s.update();
+		while(true) {
+			double[] best = Parallel.reduce(pool, 0, n, LEAF, s.new Swap());
+			if(!(best[0] < 0))
+				break;
+			int x = (int) best[1], m = (int) best[2];
+			int old = s.medoids[m];
+			double cost = s.cost;
+			s.medoids[m] = x;
+			s.isMedoid[old] = false;
+			s.isMedoid[x] = true;
+			s.update();
+			// rounding may predict a gain that is none, stop there
+			if(!(s.cost < cost)) {
+				s.medoids[m] = old;
+				s.isMedoid[x] = false;
+				s.isMedoid[old] = true;
+				s.update();
+				break;
+			}
+		}
+		return new Result(s.medoids.clone(), s.near.clone(), s.cost);
+	}
+	
+	private static void check(int n, int k) {
+		if(k < 1 || k > n)
+			throw new IllegalArgumentException(k + " medoids of " + n + " points");
+	}
+	
+	// the medoids and the nearest and second nearest medoid of every point
+	private static final class State {
+		final SymmetricMatrix d;
+		final int n, k;
+		final int[] medoids;
+		final boolean[] isMedoid;
+		// index into medoids of the nearest medoid, its distance and the one
+		// of the second nearest
+		final int[] near;
+		final double[] dn, ds;
+		double cost;
+		
+		State(SymmetricMatrix d, int k) {
+			this.d = d;
+			this.n = d.size();
+			this.k = k;
+			medoids = new int[k];
+			isMedoid = new boolean[n];
+			near = new int[n];
+			dn = new double[n];
+			ds = new double[n];
+		}
+		
+		// greedy PAM BUILD, every medoid lowers the cost the most
+		void build() {
+			Arrays.fill(dn, Double.POSITIVE_INFINITY);
+			for(int m = 0; m < k; m++) {
+				int best = -1;
+				double gain = Double.NEGATIVE_INFINITY;
+				for(int x = 0; x < n; x++) {
+					if(isMedoid[x])
+						continue;
+					double g = 0;
+					for(int o = 0; o < n; o++) {
+						double dox = d.get(o, x);
+						if(dox < dn[o])
+							// the first medoid gains its negative distance sum
+							g += m == 0 ? -dox : dn[o] - dox;
+					}
+					if(g > gain || best < 0) {
+						gain = g;
+						best = x;
+					}
+				}
+				medoids[m] = best;
+				isMedoid[best] = true;
+				for(int o = 0; o < n; o++)
+					dn[o] = Math.min(dn[o], d.get(o, best));
+			}
+		}
+		
+		// near, dn, ds and cost from the medoids
+		void update() {
+			cost = 0;
+			for(int o = 0; o < n; o++) {
+				int best = 0;
+				double b1 = Double.POSITIVE_INFINITY, b2 = Double.POSITIVE_INFINITY;
+				for(int m = 0; m < k; m++) {
+					double dom = d.get(o, medoids[m]);
+					if(dom < b1) {
+						b2 = b1;
+						b1 = dom;
+						best = m;
+					} else if(dom < b2)
+						b2 = dom;
+				}
+				near[o] = best;
+				dn[o] = b1;
+				// infinite for a single medoid
+				ds[o] = b2;
+				cost += b1;
+			}
+		}
+		
+		// the best swap of the candidates from to to, {change, candidate,
+		// medoid}
+		final class Swap implements Parallel.Reduction<double[]> {
+			@Override
+			public double[] combine(double[] left, double[] right) {
+				// ties go to the lower candidate
+				return right[0] < left[0] ? right : left;
+			}
+			
+			@Override
+			public double[] run(int from, int to) {
+				double[] best = {Double.POSITIVE_INFINITY, -1, -1};
+				double[] delta = new double[k];
+				for(int x = from; x < to; x++) {
+					if(isMedoid[x])
+						continue;
+					Arrays.fill(delta, 0);
+					double shared = 0;
+					for(int o = 0; o < n; o++) {
+						double dox = d.get(o, x);
+						if(dox < dn[o])
+							// o moves to x whichever medoid goes
+							shared += dox - dn[o];
+						else
+							// o moves to x or its second medoid if its
+							// nearest one goes
+							delta[near[o]] += Math.min(dox, ds[o]) - dn[o];
+					}
+					for(int m = 0; m < k; m++)
+						if(shared + delta[m] < best[0]) {
+							best[0] = shared + delta[m];
+							best[1] = x;
+							best[2] = m;
+						}
+				}
+				return best;
+			}
+		}
+	}
+}
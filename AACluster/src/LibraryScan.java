@@ -0,0 +1,98 @@
+/**
+ * Euclidean nearest model queries as a linear scan over packed rates. The
+ * distance to a candidate is abandoned as soon as its partial sum exceeds
+ * the current k-th best (or the radius), which skips most of the work for
+ * far away models. Mapped libraries are streamed through a reusable chunk
+ * buffer.
+ */
+final class LibraryScan {
+	// the squared bounds are widened by this factor so that rounding never
+	// abandons a candidate whose distance itself is within the bound
+	private static final double SLACK = 1 + 1e-12;
+
+	// models copied from a mapped library per chunk
+	private static final int CHUNK = 1024;
+	
+	private LibraryScan() {
+	}
+	
+	static Neighbors nearest(double[] query, PackedModels lib, int k) {
+		Neighbors nn = Neighbors.nearest(k);
+		nearest(query, lib.rates(), 0, lib.size(), 0, nn);
+		return nn.sort();
+	}
+	
+	static Neighbors within(double[] query, PackedModels lib, double r) {
+		Neighbors nn = Neighbors.within();
+		within(query, lib.rates(), 0, lib.size(), 0, r, nn);
+		return nn.sort();
+	}
+	
+	static Neighbors nearest(double[] query, ModelLibrary lib, int k) {
+		Neighbors nn = Neighbors.nearest(k);
+		double[] chunk = new double[CHUNK * AAModel.RATES];
+		for(int from = 0; from < lib.size(); from += CHUNK) {
+			int n = load(lib, from, chunk);
+			nearest(query, chunk, 0, n, from, nn);
+		}
+		return nn.sort();
+	}
+	
+	static Neighbors within(double[] query, ModelLibrary lib, double r) {
+		Neighbors nn = Neighbors.within();
+		double[] chunk = new double[CHUNK * AAModel.RATES];
+		for(int from = 0; from < lib.size(); from += CHUNK) {
+			int n = load(lib, from, chunk);
+			within(query, chunk, 0, n, from, r, nn);
+		}
+		return nn.sort();
+	}
+	
+	/**
+	 * scans n models starting at off in rates, the first one is model first of
+	 * the library
+	 */
+	static void nearest(double[] query, double[] rates, int off, int n, int first, Neighbors nn) {
+		for(int i = 0; i < n; i++) {
+			double bound = nn.bound();
+			double bb = bound * bound * SLACK;
+			double s = DistanceKernels.squaredEuclidean(query, 0, rates, off + i * AAModel.RATES, AAModel.RATES, bb);
+			if(s <= bb && Math.sqrt(s) < bound)
+				nn.offer(first + i, Math.sqrt(s));
+		}
+	}
+	
+	static void within(double[] query, double[] rates, int off, int n, int first, double r, Neighbors nn) {
+		double rr = r * r * SLACK;
+		for(int i = 0; i < n; i++) {
+			double s = DistanceKernels.squaredEuclidean(query, 0, rates, off + i * AAModel.RATES, AAModel.RATES, rr);
+			if(s <= rr && Math.sqrt(s) <= r)
+				nn.offer(first + i, Math.sqrt(s));
+		}
+	}
+	
+	/**
+	 * scans the models perm[lo] to perm[hi - 1], a k nearest neighbour scan
+	 * if r < 0, a radius scan otherwise
+	 */
+	static void scan(double[] query, double[] rates, int[] perm, int lo, int hi, Neighbors nn, double r) {
+		for(int i = lo; i < hi; i++) {
+			double bound = r < 0 ? nn.bound() : r;
+			double bb = bound * bound * SLACK;
+			double s = DistanceKernels.squaredEuclidean(query, 0, rates, perm[i] * AAModel.RATES, AAModel.RATES, bb);
+			if(s > bb)
+				continue;
+			double d = Math.sqrt(s);
+			if(r < 0 ? d < bound : d <= r)
+				nn.offer(perm[i], d);
+		}
+	}
+	
+	// copies the rates of up to CHUNK models starting at from
+	private static int load(ModelLibrary lib, int from, double[] chunk) {
+		int n = Math.min(CHUNK, lib.size() - from);
+		for(int i = 0; i < n; i++)
+			lib.rates(from + i).get(chunk, i * AAModel.RATES, AAModel.RATES);
+		return n;
+	}
+}
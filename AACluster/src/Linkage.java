@@ -0,0 +1,68 @@
+/**
+ * the cluster distances of agglomerative clustering as Lance-Williams
+ * updates, the distance of cluster k to the union of clusters i and j from
+ * their distances before the merge. All of them are reducible, which the
+ * nearest neighbor chain of HierarchicalClustering relies on.
+ */
+public enum Linkage {
+	// the smallest distance between members, hclust "single"
+	SINGLE {
+		double update(double dik, double djk, double dij, int ni, int nj, int nk) {
+			return Math.min(dik, djk);
+		}
+	},
+	// the largest distance between members, hclust "complete"
+	COMPLETE {
+		double update(double dik, double djk, double dij, int ni, int nj, int nk) {
+			return Math.max(dik, djk);
+		}
+	},
+	// the mean distance between members (UPGMA), hclust "average"
+	AVERAGE {
+		double update(double dik, double djk, double dij, int ni, int nj, int nk) {
+			return (ni * dik + nj * djk) / (ni + nj);
+		}
+	},
+	// the increase of the within cluster variance, hclust "ward.D2". The
+	// updates work on squared distances, the heights are their roots.
+	WARD {
+		double update(double dik, double djk, double dij, int ni, int nj, int nk) {
+			return ((ni + nk) * dik + (nj + nk) * djk - nk * dij) / (ni + nj + nk);
+		}
+		
+		boolean squared() {
+			return true;
+		}
+	};
+	
+	/**
+	 * the distance of cluster k to the union of i and j
+	 *
+	 * @param dik
+	 * @param djk
+	 * @param dij
+	 * @param ni members of i
+	 * @param nj
+	 * @param nk
+	 * @return
+	 */
+	abstract double update(double dik, double djk, double dij, int ni, int nj, int nk);
+	
+	// whether update() expects squared distances
+	boolean squared() {
+		return false;
+	}
+	
+	/**
+	 * a linkage by its name, case is ignored
+	 *
+	 * @param name
+	 * @return
+	 */
+	public static Linkage byName(String name) {
+		for(Linkage l : values())
+			if(l.name().equalsIgnoreCase(name))
+				return l;
+		throw new IllegalArgumentException("unknown linkage: " + name);
+	}
+}
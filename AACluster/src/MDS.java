@@ -0,0 +1,482 @@
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Classical multidimensional scaling as cmdscale() in R: the points are the
+ * top eigenvectors of B = -1/2 J D^2 J, scaled by the roots of their
+ * eigenvalues, where D^2 holds the squared distances and J centers rows and
+ * columns.
+ *
+ * B is never formed. Its product with a vector is one parallel pass over
+ * the packed matrix that squares the entries on the fly and applies the
+ * centering from the row means of D^2. The eigenpairs are found by Lanczos
+ * with full reorthogonalization and explicit restarts, the largest
+ * eigenvalues win as in cmdscale, negative ones give 0 coordinates.
+ *
+ * Landmark MDS (de Silva and Tenenbaum) scales model sets too large for
+ * that: classical MDS of a few max-min landmarks, every other point is
+ * placed by its distances to the landmarks alone.
+ */
+public final class MDS {
+	// Lanczos vectors beyond the wanted dimensions
+	private static final int EXTRA = 40;
+	private static final int MAX_RESTARTS = 50;
+	// relative residual of converged eigenpairs
+	private static final double TOLERANCE = 1e-10;
+	// a point costs one distance to a landmark or dims * l products to be
+	// placed, cheap enough that a task needs a few hundred of them
+	private static final int LEAF = 256;
+	
+	private MDS() {
+	}
+	
+	/**
+	 * the points of all rows of d as cmdscale(d, k = dims)
+	 *
+	 * @param d
+	 * @param dims
+	 * @return the coordinates of row i in [i]
+	 */
+	public static double[][] classical(SymmetricMatrix d, int dims) {
+		return classical(d, dims, Parallel.POOL);
+	}
+	
+	public static double[][] classical(SymmetricMatrix d, int dims, ForkJoinPool pool) {
+		int n = d.size();
+		Eigen e = top(new Centered(d, pool), dims);
+		double[][] x = new double[n][dims];
+		for(int c = 0; c < e.values.length; c++) {
+			double s = Math.sqrt(Math.max(0, e.values[c]));
+			for(int i = 0; i < n; i++)
+				x[i][c] = e.vectors[c][i] * s;
+		}
+		return x;
+	}
+	
+	/**
+	 * landmark MDS of the rows of d, only the rows of the landmarks are
+	 * read
+	 *
+	 * @param d
+	 * @param landmarks at least dims + 1
+	 * @param dims
+	 * @param seed picks the first landmark
+	 * @return
+	 */
+	public static double[][] landmark(final SymmetricMatrix d, int landmarks, int dims, long seed) {
+		return landmark(new Distances() {
+			public int size() {
+				return d.size();
+			}
+			
+			public double dist(int i, int j) {
+				return d.get(i, j);
+			}
+		}, landmarks, dims, seed, Parallel.POOL);
+	}
+	
+	/**
+	 * landmark MDS of models, n * landmarks distances are computed
+	 *
+	 * @param models
+	 * @param metric
+	 * @param landmarks at least dims + 1
+	 * @param dims
+	 * @param seed picks the first landmark
+	 * @return
+	 */
+	public static double[][] landmark(AAModel[] models, final DistanceMetric metric, int landmarks, int dims, long seed) {
+		final PackedModels p = PackedModels.of(models);
+		return landmark(new Distances() {
+			private final double[] q = p.rates(), f = p.frequencies();
+			
+			public int size() {
+				return p.size();
+			}
+			
+			public double dist(int i, int j) {
+				return metric.dist(q, i * AAModel.RATES, f, i * PackedModels.FREQS, q, j * AAModel.RATES, f, j * PackedModels.FREQS);
+			}
+		}, landmarks, dims, seed, Parallel.POOL);
+	}
+	
+	private interface Distances {
+		int size();
+		
+		double dist(int i, int j);
+	}
+	
+	private static double[][] landmark(Distances d, int landmarks, int dims, long seed, ForkJoinPool pool) {
+		int n = d.size();
+		int l = Math.min(n, landmarks);
+		if(l <= dims && l < n)
+			throw new IllegalArgumentException(landmarks + " landmarks for " + dims + " dimensions");
+		
+		// max-min landmarks, every next one is the point farthest from the
+		// ones chosen, sq[j][i] is the squared distance of landmark j to i
+		int[] mark = new int[l];
+		double[][] sq = new double[l][];
+		double[] min = new double[n];
+		Arrays.fill(min, Double.POSITIVE_INFINITY);
+		mark[0] = new Random(seed).nextInt(n);
+		for(int j = 0; j < l; j++) {
+			sq[j] = new double[n];
+			Parallel.forEach(pool, 0, n, LEAF, new Column(d, mark[j], sq[j], min));
+			if(j + 1 < l) {
+				int far = 0;
+				for(int i = 1; i < n; i++)
+					if(min[i] > min[far])
+						far = i;
+				mark[j + 1] = far;
+			}
+		}
+		
+		SymmetricMatrix dl = SymmetricMatrix.ofDoubles(l);
+		for(int a = 0; a < l; a++)
+			for(int b = a + 1; b < l; b++)
+				dl.set(a, b, Math.sqrt(sq[a][mark[b]]));
+		Eigen e = top(new Centered(dl, pool), dims);
+		
+		// a point x lands at -1/2 L# (sq(x) - mean), L# the eigenvectors
+		// divided by the roots of their eigenvalues
+		double[] mean = new double[l];
+		for(int j = 0; j < l; j++) {
+			for(int b = 0; b < l; b++)
+				mean[j] += sq[j][mark[b]];
+			mean[j] /= l;
+		}
+		double[][] pinv = new double[dims][l];
+		for(int c = 0; c < e.values.length; c++)
+			if(e.values[c] > 0)
+				for(int j = 0; j < l; j++)
+					pinv[c][j] = e.vectors[c][j] / Math.sqrt(e.values[c]);
+		double[][] x = new double[n][dims];
+		Parallel.forEach(pool, 0, n, LEAF, new Place(sq, mean, pinv, x));
+		return x;
+	}
+	
+	// the squared distances of one landmark to the points from to to, and
+	// the smallest of every point so far
+	private static final class Column implements Parallel.Range {
+		private final Distances d;
+		private final int mark;
+		private final double[] sq, min;
+		
+		Column(Distances d, int mark, double[] sq, double[] min) {
+			this.d = d;
+			this.mark = mark;
+			this.sq = sq;
+			this.min = min;
+		}
+		
+		@Override
+		public void run(int from, int to) {
+			for(int i = from; i < to; i++) {
+				double x = i == mark ? 0 : d.dist(mark, i);
+				sq[i] = x * x;
+				min[i] = Math.min(min[i], sq[i]);
+			}
+		}
+	}
+	
+	// places the points from to to by their distances to the landmarks
+	private static final class Place implements Parallel.Range {
+		private final double[][] sq, pinv, x;
+		private final double[] mean;
+		
+		Place(double[][] sq, double[] mean, double[][] pinv, double[][] x) {
+			this.sq = sq;
+			this.mean = mean;
+			this.pinv = pinv;
+			this.x = x;
+		}
+		
+		@Override
+		public void run(int from, int to) {
+			for(int i = from; i < to; i++)
+				for(int c = 0; c < pinv.length; c++) {
+					double s = 0;
+					for(int j = 0; j < mean.length; j++)
+						s += pinv[c][j] * (sq[j][i] - mean[j]);
+					x[i][c] = -0.5 * s;
+				}
+		}
+	}
+	
+	// a symmetric operator, y = A v
+	private interface Operator {
+		int size();
+		
+		void apply(double[] v, double[] y);
+	}
+	
+	// B = -1/2 J D^2 J of a packed distance matrix
+	private static final class Centered implements Operator {
+		private final SymmetricMatrix d;
+		private final ForkJoinPool pool;
+		private final int n;
+		// the row means of D^2 and their mean
+		private final double[] rows;
+		private final double mean;
+		
+		Centered(SymmetricMatrix d, ForkJoinPool pool) {
+			this.d = d;
+			this.pool = pool;
+			n = d.size();
+			double[] ones = new double[n];
+			Arrays.fill(ones, 1.0 / Math.max(1, n));
+			rows = squared(ones);
+			double m = 0;
+			for(int i = 0; i < n; i++)
+				m += rows[i];
+			mean = m / Math.max(1, n);
+		}
+		
+		public int size() {
+			return n;
+		}
+		
+		// D^2 v
+		private double[] squared(double[] v) {
+			if(n < 2)
+				return new double[n];
+			int pieces = Math.max(1, 4 * pool.getParallelism());
+			long grain = Math.max(1 << 16, d.entries() / pieces);
+			return pool.invoke(new Product(d, v, 1, n, grain));
+		}
+		
+		// B v_i = -1/2 (D^2 v_i - rows_i sum(v) - rows . v + mean sum(v))
+		public void apply(double[] v, double[] y) {
+			double[] p = squared(v);
+			double s = 0, r = 0;
+			for(int i = 0; i < n; i++) {
+				s += v[i];
+				r += rows[i] * v[i];
+			}
+			for(int i = 0; i < n; i++)
+				y[i] = -0.5 * (p[i] - rows[i] * s - r + mean * s);
+		}
+	}
+	
+	// D^2 v of the columns from to to, every task sums into its own vector
+	private static final class Product extends RecursiveTask<double[]> {
+		private static final long serialVersionUID = 1L;
+		private final SymmetricMatrix d;
+		private final double[] v;
+		private final int from, to;
+		private final long grain;
+		
+		Product(SymmetricMatrix d, double[] v, int from, int to, long grain) {
+			this.d = d;
+			this.v = v;
+			this.from = from;
+			this.to = to;
+			this.grain = grain;
+		}
+		
+		@Override
+		protected double[] compute() {
+			if(to - from > 1 && SymmetricMatrix.entries(to) - SymmetricMatrix.entries(from) > grain) {
+				// halves of the entries, column j holds j of them
+				int mid = (int) Math.sqrt(((double) from * from + (double) to * to) / 2);
+				mid = Math.max(from + 1, Math.min(to - 1, mid));
+				Product right = new Product(d, v, mid, to, grain);
+				right.fork();
+				double[] y = new Product(d, v, from, mid, grain).compute(), z = right.join();
+				for(int i = 0; i < y.length; i++)
+					y[i] += z[i];
+				return y;
+			}
+			double[] y = new double[v.length];
+			for(int j = from; j < to; j++) {
+				long base = SymmetricMatrix.index(0, j);
+				double vj = v[j], acc = 0;
+				for(int i = 0; i < j; i++) {
+					double x = d.get(base + i);
+					x *= x;
+					acc += x * v[i];
+					y[i] += x * vj;
+				}
+				y[j] += acc;
+			}
+			return y;
+		}
+	}
+	
+	// eigenvalues in descending order and their unit eigenvectors
+	private static final class Eigen {
+		final double[] values;
+		final double[][] vectors;
+		
+		Eigen(double[] values, double[][] vectors) {
+			this.values = values;
+			this.vectors = vectors;
+		}
+	}
+	
+	// the dims largest eigenpairs of a, Lanczos with full reorthogonalization
+	// restarted from the sum of the wanted Ritz vectors
+	private static Eigen top(Operator a, int dims) {
+		int n = a.size();
+		if(dims < 1 || dims > n)
+			throw new IllegalArgumentException(dims + " dimensions of " + n + " points");
+		int m = Math.min(n, dims + EXTRA);
+		double[][] q = new double[m + 1][];
+		double[] alpha = new double[m], beta = new double[m];
+		double[] start = new double[n];
+		Random rnd = new Random(n);
+		for(int i = 0; i < n; i++)
+			start[i] = rnd.nextDouble() - 0.5;
+		
+		double[] values = new double[dims];
+		double[][] vectors = new double[dims][n];
+		for(int restart = 0; ; restart++) {
+			normalize(start);
+			q[0] = start;
+			int steps = 0;
+			double[] w = new double[n];
+			while(steps < m) {
+				a.apply(q[steps], w);
+				alpha[steps] = dot(w, q[steps]);
+				// twice is enough
+				for(int pass = 0; pass < 2; pass++)
+					for(int j = 0; j <= steps; j++)
+						axpy(-dot(w, q[j]), q[j], w);
+				beta[steps] = Math.sqrt(dot(w, w));
+				steps++;
+				if(beta[steps - 1] <= 1e-12 * Math.abs(alpha[steps - 1]) || beta[steps - 1] == 0)
+					// an invariant subspace, the Ritz pairs are exact
+					break;
+				q[steps] = w;
+				scale(1 / beta[steps - 1], q[steps]);
+				w = new double[n];
+			}
+			
+			double[][] t = new double[steps][steps];
+			for(int j = 0; j < steps; j++) {
+				t[j][j] = alpha[j];
+				if(j + 1 < steps)
+					t[j][j + 1] = t[j + 1][j] = beta[j];
+			}
+			double[] theta = new double[steps];
+			double[][] s = new double[steps][steps];
+			jacobi(t, theta, s);
+			Integer[] order = descending(theta);
+			
+			boolean converged = true;
+			double norm = 0;
+			for(double x : theta)
+				norm = Math.max(norm, Math.abs(x));
+			// q[0] is the old start
+			start = new double[n];
+			for(int c = 0; c < dims; c++) {
+				int r = order[Math.min(c, steps - 1)];
+				values[c] = c < steps ? theta[r] : 0;
+				Arrays.fill(vectors[c], 0);
+				if(c < steps)
+					for(int j = 0; j < steps; j++)
+						axpy(s[j][r], q[j], vectors[c]);
+				sign(vectors[c]);
+				if(Math.abs(beta[steps - 1] * s[steps - 1][r]) > TOLERANCE * Math.max(norm, Double.MIN_NORMAL))
+					converged = false;
+				axpy(1, vectors[c], start);
+			}
+			if(converged || steps < m || restart == MAX_RESTARTS)
+				return new Eigen(values, vectors);
+		}
+	}
+	
+	// the indexes of x from the largest value to the smallest
+	private static Integer[] descending(final double[] x) {
+		Integer[] order = new Integer[x.length];
+		for(int i = 0; i < x.length; i++)
+			order[i] = i;
+		Arrays.sort(order, new Comparator<Integer>() {
+			public int compare(Integer a, Integer b) {
+				return Double.compare(x[b], x[a]);
+			}
+		});
+		return order;
+	}
+	
+	// the eigenvalues of the symmetric a in values, the eigenvectors in the
+	// columns of v, cyclic Jacobi rotations
+	private static void jacobi(double[][] a, double[] values, double[][] v) {
+		int n = a.length;
+		for(int i = 0; i < n; i++)
+			v[i][i] = 1;
+		for(int sweep = 0; sweep < 100; sweep++) {
+			double off = 0;
+			for(int i = 0; i < n; i++)
+				for(int j = i + 1; j < n; j++)
+					off += a[i][j] * a[i][j];
+			if(off == 0)
+				break;
+			for(int p = 0; p < n; p++)
+				for(int r = p + 1; r < n; r++) {
+					if(a[p][r] == 0)
+						continue;
+					double theta = (a[r][r] - a[p][p]) / (2 * a[p][r]);
+					double t = Math.signum(theta) / (Math.abs(theta) + Math.sqrt(theta * theta + 1));
+					if(theta == 0)
+						t = 1;
+					double c = 1 / Math.sqrt(t * t + 1), s = t * c;
+					for(int k = 0; k < n; k++) {
+						double akp = a[k][p], akr = a[k][r];
+						a[k][p] = c * akp - s * akr;
+						a[k][r] = s * akp + c * akr;
+					}
+					for(int k = 0; k < n; k++) {
+						double apk = a[p][k], ark = a[r][k];
+						a[p][k] = c * apk - s * ark;
+						a[r][k] = s * apk + c * ark;
+					}
+					for(int k = 0; k < n; k++) {
+						double vkp = v[k][p], vkr = v[k][r];
+						v[k][p] = c * vkp - s * vkr;
+						v[k][r] = s * vkp + c * vkr;
+					}
+				}
+		}
+		for(int i = 0; i < n; i++)
+			values[i] = a[i][i];
+	}
+	
+	// the sign of an eigenvector is arbitrary, its largest entry is made
+	// positive
+	private static void sign(double[] x) {
+		int big = 0;
+		for(int i = 1; i < x.length; i++)
+			if(Math.abs(x[i]) > Math.abs(x[big]))
+				big = i;
+		if(x.length > 0 && x[big] < 0)
+			scale(-1, x);
+	}
+	
+	private static double dot(double[] a, double[] b) {
+		double s = 0;
+		for(int i = 0; i < a.length; i++)
+			s += a[i] * b[i];
+		return s;
+	}
+	
+	// y += s x
+	private static void axpy(double s, double[] x, double[] y) {
+		for(int i = 0; i < y.length; i++)
+			y[i] += s * x[i];
+	}
+	
+	private static void scale(double s, double[] x) {
+		for(int i = 0; i < x.length; i++)
+			x[i] *= s;
+	}
+	
+	private static void normalize(double[] x) {
+		double l = Math.sqrt(dot(x, x));
+		if(l > 0)
+			scale(1 / l, x);
+	}
+}
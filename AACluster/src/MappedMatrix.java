@@ -0,0 +1,241 @@
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A SymmetricMatrix in a memory mapped file, for matrices that exceed the
+ * heap. The entries are paged in and out by the operating system, the heap
+ * only holds the mappings.
+ *
+ * The file starts with a HEADER byte header (magic "AASM", format version,
+ * number of rows, Precision ordinal, the INT16 step as double) followed by
+ * the entries in storage order as little endian values of the precision.
+ * Every mapped segment holds CHUNK entries, so tiles written in parallel
+ * and sequential passes like max() or forEach() stay within few segments
+ * at a time. Mapped matrices have a fixed size.
+ */
+public final class MappedMatrix extends SymmetricMatrix {
+	public static final int VERSION = 1;
+	public static final int HEADER = 64;
+	
+	static final byte[] MAGIC = {'A', 'A', 'S', 'M'};
+	private static final int STEP = 16;
+	private static final int LEVELS = Short.MAX_VALUE;
+	
+	private final File file;
+	private final Precision precision;
+	private final ByteBuffer header;
+	private final ByteBuffer[] segments;
+	// the INT16 step, a copy of the header field
+	private double step;
+	
+	private MappedMatrix(File file, int n, Precision precision, ByteBuffer header, ByteBuffer[] segments) {
+		super(n);
+		this.file = file;
+		this.precision = precision;
+		this.header = header;
+		this.segments = segments;
+		this.step = header.getDouble(STEP);
+	}
+	
+	/**
+	 * creates or overwrites file with an all zero matrix
+	 *
+	 * @param file
+	 * @param n
+	 * @param p
+	 * @param max the largest absolute value, only used for INT16
+	 * @return
+	 * @throws IOException
+	 */
+	public static MappedMatrix create(File file, int n, Precision p, double max) throws IOException {
+		if(n < 0)
+			throw new IllegalArgumentException("negative size " + n);
+		if(p == Precision.INT16 && (!(max >= 0) || Double.isInfinite(max)))
+			throw new IllegalArgumentException("no quantization range for max " + max);
+		RandomAccessFile raf = new RandomAccessFile(file, "rw");
+		try {
+			// a fresh, sparse file of zeros
+			raf.setLength(0);
+			raf.setLength(HEADER + entries(n) * p.bytes);
+			FileChannel ch = raf.getChannel();
+			ByteBuffer h = ch.map(FileChannel.MapMode.READ_WRITE, 0, HEADER).order(ByteOrder.LITTLE_ENDIAN);
+			header(h, n, p, p == Precision.INT16 && max > 0 ? max / LEVELS : 1);
+			h.clear();
+			return new MappedMatrix(file, n, p, h, map(ch, FileChannel.MapMode.READ_WRITE, n, p));
+		} finally {
+			raf.close();
+		}
+	}
+	
+	/**
+	 * maps a matrix written by create()
+	 *
+	 * @param file
+	 * @param writable
+	 * @return
+	 * @throws IOException if the file is no matrix or truncated
+	 */
+	public static MappedMatrix open(File file, boolean writable) throws IOException {
+		RandomAccessFile raf = new RandomAccessFile(file, writable ? "rw" : "r");
+		try {
+			FileChannel ch = raf.getChannel();
+			FileChannel.MapMode mode = writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY;
+			if(ch.size() < HEADER)
+				throw new IOException(file + ": no distance matrix, header truncated");
+			ByteBuffer h = ch.map(mode, 0, HEADER).order(ByteOrder.LITTLE_ENDIAN);
+			for(int i = 0; i < MAGIC.length; i++)
+				if(h.get(i) != MAGIC[i])
+					throw new IOException(file + ": no distance matrix, bad magic");
+			int version = h.getInt(4);
+			if(version != VERSION)
+				throw new IOException(file + ": unsupported matrix version " + version);
+			int n = h.getInt(8);
+			int p = h.getInt(12);
+			if(n < 0 || p < 0 || p >= Precision.values().length)
+				throw new IOException(file + ": corrupt header");
+			Precision precision = Precision.values()[p];
+			if(ch.size() < HEADER + entries(n) * precision.bytes)
+				throw new IOException(file + ": truncated, expected " + n + " rows");
+			// the mappings stay valid after the channel is closed
+			return new MappedMatrix(file, n, precision, h, map(ch, mode, n, precision));
+		} finally {
+			raf.close();
+		}
+	}
+	
+	/**
+	 * puts the HEADER bytes of a matrix file into b
+	 *
+	 * @param b little endian
+	 * @param n
+	 * @param p
+	 * @param step
+	 */
+	static void header(ByteBuffer b, int n, Precision p, double step) {
+		int start = b.position();
+		b.put(MAGIC).putInt(VERSION).putInt(n).putInt(p.ordinal()).putDouble(step);
+		while(b.position() < start + HEADER)
+			b.put((byte) 0);
+	}
+	
+	private static ByteBuffer[] map(FileChannel ch, FileChannel.MapMode mode, int n, Precision p) throws IOException {
+		long e = entries(n);
+		ByteBuffer[] segments = new ByteBuffer[chunks(e)];
+		for(int c = 0; c < segments.length; c++) {
+			long start = HEADER + ((long) c << CHUNK_BITS) * p.bytes;
+			MappedByteBuffer b = ch.map(mode, start, (long) length(e, c, segments.length) * p.bytes);
+			segments[c] = b.order(ByteOrder.LITTLE_ENDIAN);
+		}
+		return segments;
+	}
+	
+	public File getFile() {
+		return file;
+	}
+	
+	/**
+	 * writes all changes through to the file
+	 */
+	public void flush() {
+		if(header instanceof MappedByteBuffer)
+			((MappedByteBuffer) header).force();
+		for(ByteBuffer b : segments)
+			if(b instanceof MappedByteBuffer)
+				((MappedByteBuffer) b).force();
+	}
+	
+	@Override
+	double step() {
+		return step;
+	}
+	
+	@Override
+	public Precision precision() {
+		return precision;
+	}
+	
+	@Override
+	public double get(long k) {
+		ByteBuffer b = segments[(int) (k >>> CHUNK_BITS)];
+		int i = (int) (k & MASK);
+		switch(precision) {
+		case FLOAT:
+			return b.getFloat(i << 2);
+		case INT16:
+			return b.getShort(i << 1) * step;
+		default:
+			return b.getDouble(i << 3);
+		}
+	}
+	
+	@Override
+	public void set(long k, double d) {
+		ByteBuffer b = segments[(int) (k >>> CHUNK_BITS)];
+		int i = (int) (k & MASK);
+		switch(precision) {
+		case FLOAT:
+			b.putFloat(i << 2, (float) d);
+			break;
+		case INT16:
+			long code = Math.round(d / step);
+			if(code > LEVELS || code < -LEVELS)
+				throw new IllegalArgumentException(d + " is outside the quantized range " + LEVELS * Math.abs(step));
+			b.putShort(i << 1, (short) code);
+			break;
+		default:
+			b.putDouble(i << 3, d);
+		}
+	}
+	
+	@Override
+	public double max() {
+		double max = Double.NEGATIVE_INFINITY;
+		for(long k = 0, e = entries(); k < e; k++) {
+			double d = get(k);
+			if(d > max)
+				max = d;
+		}
+		return max;
+	}
+	
+	@Override
+	public double min() {
+		double min = Double.POSITIVE_INFINITY;
+		for(long k = 0, e = entries(); k < e; k++) {
+			double d = get(k);
+			if(d < min)
+				min = d;
+		}
+		return min;
+	}
+	
+	// INT16 only changes the step in the header
+	@Override
+	public void scale(double s) {
+		if(precision == Precision.INT16) {
+			step *= s;
+			header.putDouble(STEP, step);
+			return;
+		}
+		for(long k = 0, e = entries(); k < e; k++)
+			set(k, get(k) * s);
+	}
+	
+	/**
+	 * a copy on the heap, only for matrices that fit
+	 */
+	@Override
+	public SymmetricMatrix copy() {
+		SymmetricMatrix m = SymmetricMatrix.of(n, precision, 0);
+		if(precision == Precision.INT16)
+			m.scale(step);
+		for(long k = 0, e = entries(); k < e; k++)
+			m.set(k, get(k));
+		return m;
+	}
+}
@@ -0,0 +1,304 @@
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+/**
+ * Writes distance matrices and model matrices straight to a Writer. All
+ * text goes through one preallocated char buffer, numbers are formatted
+ * into it by a FixedFormat without String.format or DecimalFormat.
+ */
+public final class MatrixWriter implements Closeable, Flushable {
+	public enum Layout {
+		// the fixed width table AACluster always printed, names cut to 4
+		// characters
+		TEXT,
+		// tab separated with full names
+		TSV,
+		// read.table(file, header = TRUE, row.names = 1) in R
+		R,
+		// the PHYLIP square distance matrix, names padded to 10 characters
+		PHYLIP,
+		// the PHYLIP lower triangle, row i holds the distances to rows 0 .. i-1
+		PHYLIP_LOWER
+	}
+	
+	private static final int BUFFER = 1 << 16;
+	// matrix entries distances() reads at once
+	private static final int ROW_BLOCK = 1 << 20;
+	private static final FixedFormat COUNT = FixedFormat.printf("%5.0f");
+	
+	private final Writer out;
+	private final char[] buf = new char[BUFFER];
+	private int pos = 0;
+	
+	public MatrixWriter(Writer out) {
+		this.out = out;
+	}
+	
+	/**
+	 * @param out encoded in the default charset, as FileWriter does
+	 */
+	public MatrixWriter(OutputStream out) {
+		this(new OutputStreamWriter(out));
+	}
+	
+	/**
+	 * writes d with one row and one column per name. PHYLIP_LOWER reads d
+	 * once in storage order, the square layouts read it a block of rows at a
+	 * time and are not out of core for a mapped matrix larger than memory
+	 *
+	 * @param d
+	 * @param names
+	 * @param layout
+	 * @param decimals digits after the point, TEXT pads every number to 4
+	 * characters as "%4.0f " does
+	 * @return this
+	 * @throws IOException
+	 */
+	public MatrixWriter distances(SymmetricMatrix d, String[] names, Layout layout, int decimals) throws IOException {
+		int n = d.size();
+		if(names.length != n)
+			throw new IllegalArgumentException(names.length + " names for " + n + " rows");
+		FixedFormat f = new FixedFormat(1, decimals, layout == Layout.TEXT ? 4 : 0, false);
+		
+		switch(layout) {
+		case TEXT:
+			append("     ");
+			for(int i = 0; i < n; i++)
+				shortName(names[i]).append(' ');
+			break;
+		case TSV:
+			for(int i = 0; i < n; i++)
+				append('\t').append(names[i]);
+			break;
+		case R:
+			for(int i = 0; i < n; i++) {
+				if(i > 0)
+					append(' ');
+				quoted(names[i]);
+			}
+			break;
+		case PHYLIP:
+		case PHYLIP_LOWER:
+			append(n, COUNT);
+			break;
+		}
+		append('\n');
+		
+		if(layout == Layout.PHYLIP_LOWER) {
+			// row i is column i of the packed triangle, one pass in storage order
+			long k = 0;
+			for(int i = 0; i < n; i++) {
+				append(names[i]).pad(10 - names[i].length());
+				for(int j = 0; j < i; j++)
+					append(' ').append(d.get(k++), f);
+				append('\n');
+			}
+			return this;
+		}
+		
+		// blocks of rows, see SymmetricMatrix.rows() for how a block is read
+		double[][] rows = new double[Math.min(n, Math.max(1, ROW_BLOCK / Math.max(1, n)))][n];
+		for(int r = 0; r < n; r += rows.length) {
+			int e = Math.min(n, r + rows.length);
+			d.rows(r, e, rows);
+			for(int i = r; i < e; i++) {
+				double[] row = rows[i - r];
+				switch(layout) {
+				case TEXT:
+					shortName(names[i]).append(' ');
+					for(int j = 0; j < n; j++)
+						append(row[j], f).append(' ');
+					break;
+				case TSV:
+					append(names[i]);
+					for(int j = 0; j < n; j++)
+						append('\t').append(row[j], f);
+					break;
+				case R:
+					quoted(names[i]);
+					for(int j = 0; j < n; j++)
+						append(' ').append(row[j], f);
+					break;
+				default:
+					// longer names as relaxed PHYLIP reads them
+					append(names[i]).pad(10 - names[i].length());
+					for(int j = 0; j < n; j++)
+						append(' ').append(row[j], f);
+					break;
+				}
+				append('\n');
+			}
+		}
+		return this;
+	}
+	
+	/**
+	 * the coordinates of points as write.table() writes a matrix in R, a
+	 * header "V1" "V2" .. and every row led by its quoted name
+	 *
+	 * @param x the coordinates of point i in x[i]
+	 * @param names
+	 * @param decimals digits after the point
+	 * @return this
+	 * @throws IOException
+	 */
+	public MatrixWriter points(double[][] x, String[] names, int decimals) throws IOException {
+		if(names.length != x.length)
+			throw new IllegalArgumentException(names.length + " names for " + x.length + " points");
+		FixedFormat f = new FixedFormat(1, decimals, 0, false);
+		int dims = x.length == 0 ? 0 : x[0].length;
+		for(int c = 0; c < dims; c++) {
+			if(c > 0)
+				append(' ');
+			quoted("V" + (c + 1));
+		}
+		append('\n');
+		for(int i = 0; i < x.length; i++) {
+			quoted(names[i]);
+			for(int c = 0; c < dims; c++)
+				append(' ').append(x[i][c], f);
+			append('\n');
+		}
+		return this;
+	}
+	
+	/**
+	 * the full symmetric rate matrix of m as AAModel.matToString() shows it
+	 *
+	 * @param m
+	 * @return this
+	 * @throws IOException
+	 */
+	public MatrixWriter rates(AAModel m) throws IOException {
+		String[] aa = AAModel.AAs;
+		double[] q = m.rates();
+		append('\t');
+		for(int i = 0; i < aa.length; i++)
+			append(aa[i]).append('\t');
+		for(int i = 0; i < aa.length; i++) {
+			append('\n').append(aa[i]).append(' ');
+			for(int j = 0; j < aa.length; j++)
+				append(rate(q, i, j), FixedFormat.RATE).append(' ');
+		}
+		append('\n');
+		return this;
+	}
+	
+	/**
+	 * the upper triangle and the frequencies of m as AAModel.toString()
+	 * shows them
+	 *
+	 * @param m
+	 * @return this
+	 * @throws IOException
+	 */
+	public MatrixWriter model(AAModel m) throws IOException {
+		String[] aa = AAModel.AAs;
+		double[] q = m.rates(), f = m.frequencies();
+		append(m.name).append(":\n\t");
+		for(int i = 0; i < aa.length; i++)
+			append(aa[i]).append('\t');
+		for(int i = 0; i < aa.length; i++) {
+			append('\n').append(aa[i]).append(' ');
+			int j = 0;
+			for(; j < i; j++)
+				append("        ");
+			for(; j < aa.length; j++)
+				append(rate(q, i, j), FixedFormat.RATE).append(' ');
+		}
+		append("\nF: ");
+		for(int i = 0; i < f.length; i++)
+			append(f[i], FixedFormat.FREQUENCY).append(' ');
+		append('\n');
+		return this;
+	}
+	
+	private static double rate(double[] q, int i, int j) {
+		if(i == j)
+			return 0;
+		return i < j ? q[AAModel.index(i, j)] : q[AAModel.index(j, i)];
+	}
+	
+	// "%4s" of the first 4 characters
+	private MatrixWriter shortName(String name) throws IOException {
+		int l = Math.min(4, name.length());
+		for(int i = l; i < 4; i++)
+			append(' ');
+		return append(name.substring(0, l));
+	}
+	
+	// a quoted R string
+	private MatrixWriter quoted(String s) throws IOException {
+		append('"');
+		for(int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			if(c == '"' || c == '\\')
+				append('\\');
+			append(c);
+		}
+		return append('"');
+	}
+	
+	public MatrixWriter append(char c) throws IOException {
+		if(pos == buf.length)
+			flushBuffer();
+		buf[pos++] = c;
+		return this;
+	}
+	
+	public MatrixWriter append(String s) throws IOException {
+		int l = s.length();
+		if(l > buf.length - pos) {
+			flushBuffer();
+			if(l > buf.length) {
+				out.write(s);
+				return this;
+			}
+		}
+		s.getChars(0, l, buf, pos);
+		pos += l;
+		return this;
+	}
+	
+	/**
+	 * v as f formats it, straight into the buffer
+	 *
+	 * @param v
+	 * @param f
+	 * @return this
+	 * @throws IOException
+	 */
+	public MatrixWriter append(double v, FixedFormat f) throws IOException {
+		if(buf.length - pos < f.maxLength())
+			flushBuffer();
+		pos = f.format(v, buf, pos);
+		return this;
+	}
+	
+	private MatrixWriter pad(int blanks) throws IOException {
+		for(int k = 0; k < blanks; k++)
+			append(' ');
+		return this;
+	}
+	
+	private void flushBuffer() throws IOException {
+		out.write(buf, 0, pos);
+		pos = 0;
+	}
+	
+	@Override
+	public void flush() throws IOException {
+		flushBuffer();
+		out.flush();
+	}
+	
+	@Override
+	public void close() throws IOException {
+		flushBuffer();
+		out.close();
+	}
+}
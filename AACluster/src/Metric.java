@@ -0,0 +1,129 @@
+/**
+ * the built in distance metrics, they compare the upper triangles of the
+ * rate matrices unless stated otherwise
+ */
+public enum Metric implements DistanceMetric {
+	// euclidean distance, as AAModel.dist()
+	EUCLIDEAN {
+		public double dist(double[] qa, int qaOff, double[] fa, int faOff, double[] qb, int qbOff, double[] fb, int fbOff) {
+			return DistanceKernels.euclidean(qa, qaOff, qb, qbOff, AAModel.RATES);
+		}
+	},
+	// sum of the absolute differences
+	MANHATTAN {
+		public double dist(double[] qa, int qaOff, double[] fa, int faOff, double[] qb, int qbOff, double[] fb, int fbOff) {
+			return DistanceKernels.manhattan(qa, qaOff, qb, qbOff, AAModel.RATES);
+		}
+	},
+	// the relative distance of the flu paper made symmetric, the mean of
+	// |a - b| / (a + b), the signed one is AAModel.relDist()
+	RELDIST {
+		public double dist(double[] qa, int qaOff, double[] fa, int faOff, double[] qb, int qbOff, double[] fb, int fbOff) {
+			return DistanceKernels.absRelDist(qa, qaOff, qb, qbOff, AAModel.RATES);
+		}
+	},
+	// euclidean distance of the logarithms, rates of 0 get a pseudo count
+	LOGRATIO {
+		public double dist(double[] qa, int qaOff, double[] fa, int faOff, double[] qb, int qbOff, double[] fb, int fbOff) {
+			double ssum = 0;
+			for(int k = 0; k < AAModel.RATES; k++) {
+				double d = Math.log((qa[qaOff + k] + PSEUDO_COUNT) / (qb[qbOff + k] + PSEUDO_COUNT));
+				ssum += d * d;
+			}
+			return Math.sqrt(ssum);
+		}
+	},
+	// one minus the cosine of the angle between the rate vectors
+	COSINE {
+		public double dist(double[] qa, int qaOff, double[] fa, int faOff, double[] qb, int qbOff, double[] fb, int fbOff) {
+			double ab = 0, aa = 0, bb = 0;
+			for(int k = 0; k < AAModel.RATES; k++) {
+				double x = qa[qaOff + k], y = qb[qbOff + k];
+				ab += x * y;
+				aa += x * x;
+				bb += y * y;
+			}
+			return 1 - ab / Math.sqrt(aa * bb);
+		}
+		
+		// the norm of the query is computed once
+		public void dist(AAModel query, PackedModels library, double[] out) {
+			double[] qa = query.rates(), qb = library.rates();
+			double aa = 0;
+			for(int k = 0; k < AAModel.RATES; k++)
+				aa += qa[k] * qa[k];
+			for(int i = 0, off = 0; i < library.size(); i++, off += AAModel.RATES) {
+				double ab = 0, bb = 0;
+				for(int k = 0; k < AAModel.RATES; k++) {
+					double y = qb[off + k];
+					ab += qa[k] * y;
+					bb += y * y;
+				}
+				out[i] = 1 - ab / Math.sqrt(aa * bb);
+			}
+		}
+	},
+	// euclidean distance of the fluxes f_i f_j q_ij
+	FREQ_EUCLIDEAN {
+		public double dist(double[] qa, int qaOff, double[] fa, int faOff, double[] qb, int qbOff, double[] fb, int fbOff) {
+			double ssum = 0;
+			for(int i = 0, k = 0; i < AAS - 1; i++)
+				for(int j = i + 1; j < AAS; j++, k++) {
+					double d = fa[faOff + i] * fa[faOff + j] * qa[qaOff + k] - fb[fbOff + i] * fb[fbOff + j] * qb[qbOff + k];
+					ssum += d * d;
+				}
+			return Math.sqrt(ssum);
+		}
+		
+		// the fluxes of the query are computed once
+		public void dist(AAModel query, PackedModels library, double[] out) {
+			double[] flux = new double[AAModel.RATES];
+			double[] f = query.frequencies(), q = query.rates();
+			for(int i = 0, k = 0; i < AAS - 1; i++)
+				for(int j = i + 1; j < AAS; j++, k++)
+					flux[k] = f[i] * f[j] * q[k];
+			
+			double[] qb = library.rates(), fb = library.frequencies();
+			for(int m = 0; m < library.size(); m++) {
+				int qOff = m * AAModel.RATES, fOff = m * PackedModels.FREQS;
+				double ssum = 0;
+				for(int i = 0, k = 0; i < AAS - 1; i++) {
+					double fi = fb[fOff + i];
+					for(int j = i + 1; j < AAS; j++, k++) {
+						double d = flux[k] - fi * fb[fOff + j] * qb[qOff + k];
+						ssum += d * d;
+					}
+				}
+				out[m] = Math.sqrt(ssum);
+			}
+		}
+	};
+	
+	// added to every rate before LOGRATIO takes the logarithm
+	static final double PSEUDO_COUNT = 1e-6;
+	private static final int AAS = AAModel.AAs.length;
+	
+	public double dist(AAModel a, AAModel b) {
+		return dist(a.rates(), 0, a.frequencies(), 0, b.rates(), 0, b.frequencies(), 0);
+	}
+	
+	public void dist(AAModel query, PackedModels library, double[] out) {
+		double[] qa = query.rates(), fa = query.frequencies();
+		double[] qb = library.rates(), fb = library.frequencies();
+		for(int i = 0; i < library.size(); i++)
+			out[i] = dist(qa, 0, fa, 0, qb, i * AAModel.RATES, fb, i * PackedModels.FREQS);
+	}
+	
+	/**
+	 * a built in metric by its name, case is ignored
+	 * 
+	 * @param name
+	 * @return
+	 */
+	public static Metric byName(String name) {
+		for(Metric m : values())
+			if(m.name().equalsIgnoreCase(name))
+				return m;
+		throw new IllegalArgumentException("unknown metric: " + name);
+	}
+}
@@ -0,0 +1,171 @@
+import java.util.Arrays;
+
+/**
+ * A distance matrix over a changing set of models. Adding a model computes
+ * only its new row (in parallel), removing one compacts the storage in
+ * place, nothing is recomputed from scratch.
+ * 
+ * The distances are kept in a SymmetricMatrix, whose packing does not
+ * depend on the size, so a new model just appends its column. A scaling as
+ * done by AACluster.scaleByMax() is not written into the matrix, it is
+ * applied when entries are read. The maximum it depends on is kept up to
+ * date on add and only rescanned when a model holding it is removed.
+ */
+public final class ModelDistanceMatrix {
+	// a distance is some hundred operations on 190 rates, a task has to
+	// compute a thousand of them to be worth its scheduling, so rows of
+	// small matrices are not split at all
+	private static final int BATCH = 1024;
+	
+	private final DistanceMetric metric;
+	private AAModel[] models = new AAModel[16];
+	private final SymmetricMatrix.Heap tri = SymmetricMatrix.growable(0);
+	private int n = 0;
+	
+	// the largest entry, NaN while it has to be rescanned
+	private double max = 0;
+	// entries are multiplied with scaler / max on read, 0 means unscaled
+	private double scaler = 0;
+	
+	public ModelDistanceMatrix(DistanceMetric metric) {
+		this.metric = metric;
+	}
+	
+	public ModelDistanceMatrix(AAModel[] models, DistanceMetric metric) {
+		this(metric);
+		for(AAModel m : models)
+			addModel(m);
+	}
+	
+	public int size() {
+		return n;
+	}
+	
+	public AAModel model(int i) {
+		check(i);
+		return models[i];
+	}
+	
+	/**
+	 * adds a model and computes its distances to all others
+	 * 
+	 * @param m
+	 * @return the index of m
+	 */
+	public int addModel(AAModel m) {
+		tri.resize(n + 1);
+		if(n == models.length)
+			models = Arrays.copyOf(models, n + (n >> 1));
+		
+		models[n] = m;
+		long row = SymmetricMatrix.index(0, n);
+		if(n > 0)
+			Parallel.forEach(Parallel.POOL, 0, n, BATCH, new Row(m, row));
+		if(!Double.isNaN(max))
+			for(long i = row; i < row + n; i++)
+				if(tri.get(i) > max)
+					max = tri.get(i);
+		return n++;
+	}
+	
+	/**
+	 * removes model r, the models after it move up by one
+	 * 
+	 * @param r
+	 */
+	public void removeModel(int r) {
+		check(r);
+		// the removed entries, if one of them was the maximum it is rescanned
+		boolean rescan = false;
+		for(int i = 0; i < n && !rescan; i++)
+			rescan = i != r && raw(i, r) >= max;
+		
+		long w = SymmetricMatrix.index(0, r);
+		for(int j = r + 1; j < n; j++) {
+			long col = SymmetricMatrix.index(0, j);
+			tri.move(col, w, r);
+			w += r;
+			tri.move(col + r + 1, w, j - r - 1);
+			w += j - r - 1;
+		}
+		System.arraycopy(models, r + 1, models, r, n - r - 1);
+		models[--n] = null;
+		tri.resize(n);
+		if(rescan)
+			max = Double.NaN;
+	}
+	
+	/**
+	 * the distance of i and j, scaled if scaleByMax() was called
+	 * 
+	 * @param i
+	 * @param j
+	 * @return
+	 */
+	public double get(int i, int j) {
+		return raw(i, j) * factor();
+	}
+	
+	public double raw(int i, int j) {
+		return tri.get(i, j);
+	}
+	
+	/**
+	 * scales all entries so that the largest one becomes scaler, the scaling
+	 * follows later changes of the model set
+	 * 
+	 * @param scaler
+	 */
+	public void scaleByMax(double scaler) {
+		this.scaler = scaler;
+	}
+	
+	public void unscale() {
+		this.scaler = 0;
+	}
+	
+	public double max() {
+		if(Double.isNaN(max)) {
+			max = Math.max(0, tri.max());
+		}
+		return max;
+	}
+	
+	/**
+	 * a copy of the matrix as AACluster prints it
+	 * 
+	 * @return
+	 */
+	public SymmetricMatrix toMatrix() {
+		SymmetricMatrix d = tri.copy();
+		d.scale(factor());
+		return d;
+	}
+	
+	// an all zero matrix stays unscaled
+	private double factor() {
+		return scaler == 0 || max() == 0 ? 1 : scaler / max();
+	}
+	
+	private void check(int i) {
+		if(i < 0 || i >= n)
+			throw new IndexOutOfBoundsException("model " + i + " of " + n);
+	}
+	
+	// the distances of m to the models from to to, written at row + i
+	private final class Row implements Parallel.Range {
+		private final AAModel m;
+		private final long row;
+		
+		Row(AAModel m, long row) {
+			this.m = m;
+			this.row = row;
+		}
+		
+		@Override
+		public void run(int from, int to) {
+			for(int i = from; i < to; i++)
+				tri.set(row + i, metric.dist(m, models[i]));
+		}
+	}
+}
@@ -0,0 +1,140 @@
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes the rate matrix of every model to <name>.txt as matToString()
+ * shows it, the per model dump of the VV mode. Models are reverted and
+ * formatted on the workers of a pool, the calling thread writes the files.
+ * The formatted models wait in a queue of QUEUE entries, workers that run
+ * ahead of the writer block, so at most QUEUE dumps are held at any time.
+ */
+public final class ModelDump {
+	// formatted models waiting for the writer
+	private static final int QUEUE = 64;
+	// a dump is a few kB of text, 16 of them keep a task busy and are a
+	// quarter of what the queue holds
+	private static final int BATCH = 16;
+	// how often blocked workers check whether the dump was abandoned, and
+	// the writer whether the workers stopped early
+	private static final long POLL_MS = 50;
+	
+	private final AAModel[] models;
+	private final File dir;
+	private final BlockingQueue<Entry> queue = new ArrayBlockingQueue<Entry>(QUEUE);
+	private volatile boolean cancelled = false;
+	
+	private ModelDump(AAModel[] models, File dir) {
+		this.models = models;
+		this.dir = dir;
+	}
+	
+	/**
+	 * writes a copy of every model, reverted by revertMax(), to dir/<name>.txt
+	 *
+	 * @param models scaled by their maximum rate
+	 * @param dir
+	 * @throws IOException the first file that failed, the others are written
+	 * regardless
+	 */
+	public static void write(AAModel[] models, File dir) throws IOException {
+		write(models, dir, Parallel.POOL);
+	}
+	
+	public static void write(AAModel[] models, File dir, ForkJoinPool pool) throws IOException {
+		new ModelDump(models, dir).run(pool);
+	}
+	
+	private void run(ForkJoinPool pool) throws IOException {
+		ForkJoinTask<Void> root = Parallel.task(0, models.length, BATCH, new Format());
+		pool.execute(root);
+		IOException failed = null;
+		try {
+			for(int k = 0; k < models.length; k++) {
+				Entry e = next(root, k);
+				if(e.error != null)
+					throw e.error;
+				try {
+					Writer out = new FileWriter(e.file);
+					try {
+						out.write(e.text);
+					} finally {
+						out.close();
+					}
+				} catch (IOException x) {
+					if(failed == null)
+						failed = x;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("dump interrupted", e);
+		} finally {
+			cancelled = true;
+			queue.clear();
+		}
+		root.join();
+		if(failed != null)
+			throw failed;
+	}
+	
+	// the next entry, or why the workers stopped before they posted all of
+	// them: join() rethrows an Error, an interrupted worker just returns
+	private Entry next(ForkJoinTask<Void> root, int k) throws IOException, InterruptedException {
+		for(;;) {
+			Entry e = queue.poll(POLL_MS, TimeUnit.MILLISECONDS);
+			if(e != null)
+				return e;
+			if(root.isDone()) {
+				// whatever was posted before the tasks finished
+				if((e = queue.poll()) != null)
+					return e;
+				root.join();
+				throw new IOException("dump stopped after " + k + " of " + models.length + " models");
+			}
+		}
+	}
+	
+	// a formatted model or the reason it is missing
+	private static final class Entry {
+		final File file;
+		final String text;
+		final RuntimeException error;
+		
+		Entry(File file, String text, RuntimeException error) {
+			this.file = file;
+			this.text = text;
+			this.error = error;
+		}
+	}
+	
+	// formats the models from to to and hands them to the writer
+	private final class Format implements Parallel.Range {
+		@Override
+		public void run(int from, int to) {
+			for(int i = from; i < to && !cancelled; i++) {
+				AAModel m = models[i];
+				Entry e;
+				try {
+					e = new Entry(new File(dir, m.name + ".txt"), m.copy().revertMax().matToString(), null);
+				} catch (RuntimeException x) {
+					e = new Entry(null, null, x);
+				}
+				try {
+					while(!queue.offer(e, POLL_MS, TimeUnit.MILLISECONDS))
+						if(cancelled)
+							return;
+				} catch (InterruptedException x) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+}
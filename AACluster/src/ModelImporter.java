@@ -0,0 +1,261 @@
+import java.io.CharArrayReader;
+import java.io.CharArrayWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Reads amino acid models from text files. Two layouts are understood:
+ * 
+ * - PAML / RAxML .dat files: the 190 exchangeabilities as a lower triangle
+ *   (row i holds S(i,0) .. S(i,i-1)) followed by the 20 frequencies. A file
+ *   may hold several models one after the other, text between the blocks
+ *   (comments, references) is skipped. A run of numbers that is long enough
+ *   to be part of a block has to be made of complete blocks, a stray number
+ *   next to a block would shift all of its values.
+ * - the matrix dumps written by AAModel.toString() and matToString(), rows
+ *   labeled with the amino acid, either the full matrix or the upper triangle
+ *   only, optionally followed by a "F:" line of frequencies. Without
+ *   frequencies the model gets uniform ones.
+ * 
+ * The layout is told by the structure of the file, not by its first token:
+ * a line that starts with an amino acid label followed by numbers, or a
+ * "F:" line, makes it a dump. Files are read into memory once and tokenized
+ * through a reusable buffer, numbers are parsed in place, nothing is
+ * allocated per token.
+ */
+public final class ModelImporter {
+	private static final int AAS = AAModel.AAs.length;
+	private static final Charset ASCII = Charset.forName("US-ASCII");
+	
+	private ModelImporter() {
+	}
+	
+	/**
+	 * imports all files in parallel and registers the models with the
+	 * ModelRegistry in the order of the files. Models whose name is taken
+	 * already get a numbered suffix.
+	 * 
+	 * @param files
+	 * @return the registered models
+	 * @throws IOException
+	 */
+	public static List<AAModel> importAll(File[] files) throws IOException {
+		int threads = Math.max(1, Math.min(files.length, Runtime.getRuntime().availableProcessors()));
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<List<AAModel>>> parsed = new ArrayList<Future<List<AAModel>>>();
+			for(final File f : files)
+				parsed.add(pool.submit(new Callable<List<AAModel>>() {
+					public List<AAModel> call() throws IOException {
+						return read(f);
+					}
+				}));
+			
+			List<AAModel> models = new ArrayList<AAModel>();
+			for(Future<List<AAModel>> p : parsed)
+				for(AAModel m : p.get()) {
+					m.name = ModelRegistry.uniqueName(m.name);
+					models.add(ModelRegistry.register(m));
+				}
+			return models;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("import interrupted", e);
+		} catch (ExecutionException e) {
+			if(e.getCause() instanceof IOException)
+				throw (IOException) e.getCause();
+			throw new IOException(e.getCause());
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+	
+	/**
+	 * reads all models of a file. Models without a name of their own are
+	 * named after the file, numbered if the file holds several of them
+	 * 
+	 * @param f
+	 * @return
+	 * @throws IOException
+	 */
+	public static List<AAModel> read(File f) throws IOException {
+		String name = f.getName();
+		if(name.lastIndexOf('.') > 0)
+			name = name.substring(0, name.lastIndexOf('.'));
+		Reader r = new InputStreamReader(new FileInputStream(f), ASCII);
+		try {
+			return read(r, name);
+		} finally {
+			r.close();
+		}
+	}
+	
+	public static List<AAModel> read(Reader r, String name) throws IOException {
+		CharArrayWriter all = new CharArrayWriter();
+		char[] buf = new char[1 << 16];
+		for(int n; (n = r.read(buf)) > 0; )
+			all.write(buf, 0, n);
+		char[] text = all.toCharArray();
+		
+		boolean dump = isDump(new Tokenizer(new CharArrayReader(text)));
+		Tokenizer t = new Tokenizer(new CharArrayReader(text));
+		List<AAModel> models = new ArrayList<AAModel>();
+		if(!t.next())
+			return models;
+		if(dump)
+			readDump(t, name, models);
+		else
+			readPaml(t, name, models);
+		return models;
+	}
+	
+	// a line of a labeled row or of frequencies anywhere
+	private static boolean isDump(Tokenizer t) throws IOException {
+		int line = 0;
+		boolean labeled = false;
+		while(t.next()) {
+			if(t.line() != line) {
+				line = t.line();
+				if(t.equals("F:"))
+					return true;
+				labeled = label(t) >= 0;
+			} else {
+				// the second token of the line decides
+				if(labeled && t.isNumber())
+					return true;
+				labeled = false;
+			}
+		}
+		return false;
+	}
+	
+	private static void readPaml(Tokenizer t, String name, List<AAModel> models) throws IOException {
+		double[] block = new double[AAModel.RATES + AAS];
+		int n = 0, run = 0, line = t.line();
+		do {
+			if(!t.isNumber()) {
+				// a few numbers are part of a comment
+				checkRun(name, line, run, block.length);
+				n = run = 0;
+				continue;
+			}
+			if(run++ == 0)
+				line = t.line();
+			block[n++] = t.number();
+			if(n == block.length) {
+				models.add(fromLowerTriangle(name, block));
+				n = 0;
+			}
+		} while(t.next());
+		checkRun(name, line, run, block.length);
+		if(models.isEmpty())
+			throw new IOException(name + ": no complete model (" + AAModel.RATES + " rates and " + AAS + " frequencies) found");
+		if(models.size() > 1)
+			for(int i = 0; i < models.size(); i++)
+				models.get(i).name = name + "#" + (i + 1);
+	}
+	
+	private static void checkRun(String name, int line, int run, int block) throws IOException {
+		if(run >= AAModel.RATES && run % block != 0)
+			throw new IOException(name + ":" + line + ": " + run + " numbers in a row, expected a multiple of " + block + " (" + AAModel.RATES + " rates and " + AAS + " frequencies)");
+	}
+	
+	// rates are given column by column of the upper triangle
+	private static AAModel fromLowerTriangle(String name, double[] block) {
+		double[] rates = new double[AAModel.RATES];
+		int k = 0;
+		for(int i = 1; i < AAS; i++)
+			for(int j = 0; j < i; j++)
+				rates[AAModel.index(j, i)] = block[k++];
+		return new AAModel(name, rates, Arrays.copyOfRange(block, AAModel.RATES, block.length));
+	}
+	
+	private static void readDump(Tokenizer t, String name, List<AAModel> models) throws IOException {
+		double[] rates = new double[AAModel.RATES];
+		double[] freqs = new double[AAS];
+		double[] row = new double[AAS];
+		String current = name;
+		int rows = 0;
+		boolean hasFreqs = false;
+		
+		boolean more = true;
+		while(more) {
+			int line = t.line();
+			if(t.isNumber())
+				throw new IOException(name + ":" + line + ": expected a row label");
+			
+			if(t.equals("F:")) {
+				int n = 0;
+				while((more = t.next()) && t.line() == line && t.isNumber())
+					if(n < AAS)
+						freqs[n++] = t.number();
+				if(n != AAS)
+					throw new IOException(name + ":" + line + ": expected " + AAS + " frequencies");
+				hasFreqs = true;
+				continue;
+			}
+			
+			if(t.endsWith(':')) {
+				// a model header as written by toString()
+				if(rows > 0)
+					rows = emit(models, current, rates, freqs, hasFreqs, rows);
+				hasFreqs = false;
+				current = t.text(0, t.length() - 1);
+				more = t.next();
+				continue;
+			}
+			
+			int r = label(t);
+			int n = 0;
+			while((more = t.next()) && t.line() == line && t.isNumber())
+				if(n < AAS)
+					row[n++] = t.number();
+			
+			// the column header or some other text line
+			if(r < 0 || n == 0)
+				continue;
+			if(r != rows || n < AAS - r)
+				throw new IOException(name + ":" + line + ": expected " + (AAS - r) + " values for row " + AAModel.AAs[rows]);
+			
+			// the last AAS - r values are the diagonal and the upper triangle
+			for(int j = r + 1; j < AAS; j++)
+				rates[AAModel.index(r, j)] = row[n - AAS + j];
+			rows++;
+			
+			if(rows == AAS && !more)
+				rows = emit(models, current, rates, freqs, hasFreqs, rows);
+		}
+		if(rows > 0)
+			emit(models, current, rates, freqs, hasFreqs, rows);
+		if(models.isEmpty())
+			throw new IOException(name + ": no model found");
+	}
+	
+	private static int emit(List<AAModel> models, String name, double[] rates, double[] freqs, boolean hasFreqs, int rows) throws IOException {
+		if(rows != AAS)
+			throw new IOException(name + ": incomplete matrix, " + rows + " of " + AAS + " rows");
+		if(!hasFreqs)
+			Arrays.fill(freqs, 1.0 / AAS);
+		models.add(new AAModel(name, rates.clone(), freqs.clone()));
+		return 0;
+	}
+	
+	private static int label(Tokenizer t) {
+		for(int i = 0; i < AAS; i++)
+			if(t.equals(AAModel.AAs[i]))
+				return i;
+		return -1;
+	}
+}
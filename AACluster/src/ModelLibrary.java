@@ -0,0 +1,206 @@
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+
+/**
+ * A memory mapped library of amino acid models in a compact binary format.
+ * 
+ * The file starts with a HEADER byte header (magic "AAML", format version,
+ * number of records, record stride) followed by fixed size records. Every
+ * record holds the model name as NAME_BYTES zero padded UTF-8 bytes, the
+ * AAModel.RATES packed upper triangle rates and the 20 frequencies, all
+ * little endian doubles.
+ * 
+ * Opening a library only maps the file, records are paged in when they are
+ * touched. rates() and frequencies() are views into the mapping, get()
+ * materializes a record as a regular AAModel.
+ */
+public final class ModelLibrary {
+	public static final int VERSION = 1;
+	public static final int HEADER = 64;
+	public static final int NAME_BYTES = 32;
+	public static final int FREQS = 20;
+	public static final int STRIDE = NAME_BYTES + (AAModel.RATES + FREQS) * 8;
+	
+	private static final byte[] MAGIC = {'A', 'A', 'M', 'L'};
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+	// records per mapped segment, a single mapping may not exceed 2GB
+	private static final int SEGMENT = (Integer.MAX_VALUE - HEADER) / STRIDE;
+	
+	private final File file;
+	private final int size;
+	private final ByteBuffer[] segments;
+	
+	private ModelLibrary(File file, int size, ByteBuffer[] segments) {
+		this.file = file;
+		this.size = size;
+		this.segments = segments;
+	}
+	
+	/**
+	 * maps a library written by write()
+	 * 
+	 * @param file
+	 * @return
+	 * @throws IOException if the file is no model library or truncated
+	 */
+	public static ModelLibrary open(File file) throws IOException {
+		RandomAccessFile raf = new RandomAccessFile(file, "r");
+		try {
+			FileChannel ch = raf.getChannel();
+			ByteBuffer h = ByteBuffer.allocate(HEADER).order(ByteOrder.LITTLE_ENDIAN);
+			while(h.hasRemaining() && ch.read(h, h.position()) > 0);
+			if(h.hasRemaining())
+				throw new IOException(file + ": no model library, header truncated");
+			h.flip();
+			
+			for(int i = 0; i < MAGIC.length; i++)
+				if(h.get(i) != MAGIC[i])
+					throw new IOException(file + ": no model library, bad magic");
+			int version = h.getInt(4);
+			if(version != VERSION)
+				throw new IOException(file + ": unsupported library version " + version);
+			int size = h.getInt(8);
+			int stride = h.getInt(12);
+			if(stride != STRIDE || size < 0)
+				throw new IOException(file + ": corrupt header");
+			if(ch.size() < HEADER + (long) size * STRIDE)
+				throw new IOException(file + ": truncated, expected " + size + " models");
+			
+			ByteBuffer[] segments = new ByteBuffer[(size + SEGMENT - 1) / SEGMENT];
+			for(int s = 0; s < segments.length; s++) {
+				long start = HEADER + (long) s * SEGMENT * STRIDE;
+				int records = Math.min(SEGMENT, size - s * SEGMENT);
+				MappedByteBuffer b = ch.map(FileChannel.MapMode.READ_ONLY, start, (long) records * STRIDE);
+				segments[s] = b.order(ByteOrder.LITTLE_ENDIAN);
+			}
+			// the mappings stay valid after the channel is closed
+			return new ModelLibrary(file, size, segments);
+		} finally {
+			raf.close();
+		}
+	}
+	
+	/**
+	 * writes models as a library, records are streamed through a small buffer
+	 * 
+	 * @param file
+	 * @param models
+	 * @throws IOException
+	 */
+	public static void write(File file, AAModel[] models) throws IOException {
+		RandomAccessFile raf = new RandomAccessFile(file, "rw");
+		try {
+			FileChannel ch = raf.getChannel();
+			ch.truncate(0);
+			ByteBuffer h = ByteBuffer.allocate(HEADER).order(ByteOrder.LITTLE_ENDIAN);
+			h.put(MAGIC).putInt(VERSION).putInt(models.length).putInt(STRIDE);
+			h.clear();
+			writeFully(ch, h);
+			
+			ByteBuffer b = ByteBuffer.allocateDirect(STRIDE * 64).order(ByteOrder.LITTLE_ENDIAN);
+			double[] rec = new double[AAModel.RATES + FREQS];
+			for(int m = 0; m < models.length; m++) {
+				// UTF-8 round trips every name, the padding ends it
+				byte[] name = models[m].name.getBytes(UTF8);
+				if(name.length > NAME_BYTES)
+					throw new IllegalArgumentException(models[m].name + ": names are limited to " + NAME_BYTES + " UTF-8 bytes");
+				if(models[m].name.indexOf('\0') >= 0)
+					throw new IllegalArgumentException(models[m].name + ": names must not contain NUL");
+				if(b.remaining() < STRIDE) {
+					b.flip();
+					writeFully(ch, b);
+					b.clear();
+				}
+				b.put(name);
+				for(int i = name.length; i < NAME_BYTES; i++)
+					b.put((byte) 0);
+				models[m].getRates(rec, 0);
+				models[m].getFrequencies(rec, AAModel.RATES);
+				b.asDoubleBuffer().put(rec);
+				b.position(b.position() + rec.length * 8);
+			}
+			b.flip();
+			writeFully(ch, b);
+		} finally {
+			raf.close();
+		}
+	}
+	
+	private static void writeFully(FileChannel ch, ByteBuffer b) throws IOException {
+		while(b.hasRemaining())
+			ch.write(b);
+	}
+	
+	public File getFile() {
+		return file;
+	}
+	
+	public int size() {
+		return size;
+	}
+	
+	public String name(int i) {
+		ByteBuffer b = record(i);
+		byte[] name = new byte[NAME_BYTES];
+		b.get(name);
+		int l = 0;
+		while(l < NAME_BYTES && name[l] != 0)
+			l++;
+		return new String(name, 0, l, UTF8);
+	}
+	
+	/**
+	 * a read only view of the packed rates of model i, nothing is copied
+	 * 
+	 * @param i
+	 * @return
+	 */
+	public DoubleBuffer rates(int i) {
+		ByteBuffer b = record(i);
+		b.position(b.position() + NAME_BYTES).limit(b.position() + AAModel.RATES * 8);
+		return b.slice().order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+	}
+	
+	/**
+	 * a read only view of the frequencies of model i
+	 * 
+	 * @param i
+	 * @return
+	 */
+	public DoubleBuffer frequencies(int i) {
+		ByteBuffer b = record(i);
+		b.position(b.position() + NAME_BYTES + AAModel.RATES * 8).limit(b.position() + FREQS * 8);
+		return b.slice().order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+	}
+	
+	/**
+	 * materializes model i
+	 * 
+	 * @param i
+	 * @return a read only model
+	 */
+	public AAModel get(int i) {
+		double[] rates = new double[AAModel.RATES];
+		double[] freqs = new double[FREQS];
+		rates(i).get(rates);
+		frequencies(i).get(freqs);
+		return new AAModel(name(i), rates, freqs).freeze();
+	}
+	
+	// a read only buffer positioned on record i
+	private ByteBuffer record(int i) {
+		if(i < 0 || i >= size)
+			throw new IndexOutOfBoundsException("model " + i + " of " + size);
+		ByteBuffer b = segments[i / SEGMENT].asReadOnlyBuffer();
+		int pos = (i % SEGMENT) * STRIDE;
+		b.limit(pos + STRIDE).position(pos);
+		return b;
+	}
+}
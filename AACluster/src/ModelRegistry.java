@@ -0,0 +1,132 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hands out shared, read only models. The exchangeabilities of every model
+ * are built exactly once, the normalized variants are derived lazily from
+ * that instance and cached as well.
+ * 
+ * Models returned from here are frozen, use AAModel.copy() to get a model
+ * that may be rescaled.
+ */
+public final class ModelRegistry {
+	private static final Map<Models, AAModel[]> builtin = new EnumMap<Models, AAModel[]>(Models.class);
+	private static final Map<String, AAModel[]> custom = new LinkedHashMap<String, AAModel[]>();
+	
+	private ModelRegistry() {
+	}
+	
+	public static AAModel get(Models m) {
+		return get(m, Normalization.NONE);
+	}
+	
+	public static synchronized AAModel get(Models m, Normalization n) {
+		AAModel[] variants = builtin.get(m);
+		if(variants == null) {
+			variants = new AAModel[Normalization.values().length];
+			variants[Normalization.NONE.ordinal()] = new AAModel(m).freeze();
+			builtin.put(m, variants);
+		}
+		return variant(variants, n);
+	}
+	
+	public static AAModel get(String name) {
+		return get(name, Normalization.NONE);
+	}
+	
+	/**
+	 * looks up a built in model by its enum name first, a registered custom
+	 * model otherwise
+	 * 
+	 * @param name
+	 * @param n
+	 * @return
+	 */
+	public static synchronized AAModel get(String name, Normalization n) {
+		for(Models m : Models.values())
+			if(m.name().equals(name))
+				return get(m, n);
+		
+		AAModel[] variants = custom.get(name);
+		if(variants == null)
+			throw new IllegalArgumentException("unknown model: " + name);
+		return variant(variants, n);
+	}
+	
+	/**
+	 * adds a custom model, the registry keeps its own read only copy. A
+	 * model of a registered name is only accepted if it is the same model,
+	 * nothing is replaced that callers may still hold.
+	 * 
+	 * @param m
+	 * @return the shared instance, the registered one if the name is taken
+	 * by equal rates and frequencies
+	 * @throws IllegalArgumentException if the name is taken by another model
+	 */
+	public static synchronized AAModel register(AAModel m) {
+		for(Models b : Models.values())
+			if(b.name().equals(m.name))
+				throw new IllegalArgumentException(m.name + " is a built in model");
+		AAModel[] old = custom.get(m.name);
+		if(old != null) {
+			AAModel o = old[Normalization.NONE.ordinal()];
+			if(Arrays.equals(o.rates(), m.rates()) && Arrays.equals(o.frequencies(), m.frequencies()))
+				return o;
+			throw new IllegalArgumentException(m.name + " is registered with other rates");
+		}
+		
+		AAModel[] variants = new AAModel[Normalization.values().length];
+		variants[Normalization.NONE.ordinal()] = m.isFrozen() ? m : m.copy().freeze();
+		custom.put(m.name, variants);
+		return variants[Normalization.NONE.ordinal()];
+	}
+	
+	public static synchronized boolean contains(String name) {
+		for(Models m : Models.values())
+			if(m.name().equals(name))
+				return true;
+		return custom.containsKey(name);
+	}
+	
+	/**
+	 * name, or name with the first free suffix _2, _3, ... if it is taken
+	 * 
+	 * @param name
+	 * @return
+	 */
+	public static synchronized String uniqueName(String name) {
+		String n = name;
+		for(int i = 2; contains(n); i++)
+			n = name + "_" + i;
+		return n;
+	}
+	
+	/**
+	 * all built in models in enum order followed by the custom models in the
+	 * order they were registered
+	 * 
+	 * @param n
+	 * @return
+	 */
+	public static synchronized AAModel[] all(Normalization n) {
+		List<AAModel> l = new ArrayList<AAModel>();
+		for(Models m : Models.values())
+			l.add(get(m, n));
+		for(AAModel[] variants : custom.values())
+			l.add(variant(variants, n));
+		return l.toArray(new AAModel[l.size()]);
+	}
+	
+	private static AAModel variant(AAModel[] variants, Normalization n) {
+		AAModel v = variants[n.ordinal()];
+		if(v == null) {
+			v = n.apply(variants[Normalization.NONE.ordinal()].copy()).freeze();
+			variants[n.ordinal()] = v;
+		}
+		return v;
+	}
+}
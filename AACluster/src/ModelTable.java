@@ -0,0 +1,470 @@
+/**
+ * The empirical protein models as a packed constant table. The values are
+ * the daa[] and f[] literals of the former AAModel.initProtMat(), which
+ * follow the RAxML model definitions (see model_names.txt), and were checked
+ * to reproduce every rate and frequency of it bit for bit.
+ * 
+ * EXCHANGEABILITIES holds the AAModel.RATES rates of the upper triangle of
+ * every model row by row, (0,1) (0,2) ... (0,19) (1,2) ... (18,19), FREQUENCIES
+ * the 20 stationary amino acid frequencies. Both are indexed by Models.ordinal().
+ */
+final class ModelTable {
+	private ModelTable() {
+	}
+	
+	static final double[][] EXCHANGEABILITIES = {
+		// DAYHOFF
+		{
+			27.00, 98.00, 120.00, 36.00, 89.00, 198.00, 240.00, 23.00, 65.00, 41.00, 26.00, 72.00, 18.00, 250.00, 409.00, 371.00, 0.00, 24.00, 208.00,
+			32.00, 0.00, 23.00, 246.00, 1.00, 9.00, 240.00, 64.00, 15.00, 464.00, 90.00, 14.00, 103.00, 154.00, 26.00, 201.00, 8.00, 24.00,
+			905.00, 0.00, 103.00, 148.00, 139.00, 535.00, 77.00, 34.00, 318.00, 1.00, 14.00, 42.00, 495.00, 229.00, 23.00, 95.00, 15.00,
+			0.00, 134.00, 1153.00, 125.00, 86.00, 24.00, 0.00, 71.00, 0.00, 0.00, 13.00, 95.00, 66.00, 0.00, 0.00, 18.00,
+			0.00, 0.00, 11.00, 28.00, 44.00, 0.00, 0.00, 0.00, 0.00, 19.00, 161.00, 16.00, 0.00, 96.00, 49.00,
+			716.00, 28.00, 606.00, 18.00, 73.00, 153.00, 114.00, 0.00, 153.00, 56.00, 53.00, 0.00, 0.00, 35.00,
+			81.00, 43.00, 61.00, 11.00, 83.00, 30.00, 0.00, 51.00, 79.00, 34.00, 0.00, 22.00, 37.00,
+			10.00, 0.00, 7.00, 27.00, 17.00, 15.00, 34.00, 234.00, 30.00, 0.00, 0.00, 54.00,
+			7.00, 44.00, 26.00, 0.00, 48.00, 94.00, 35.00, 22.00, 27.00, 127.00, 44.00,
+			257.00, 46.00, 336.00, 196.00, 12.00, 24.00, 192.00, 0.00, 37.00, 889.00,
+			18.00, 527.00, 157.00, 32.00, 17.00, 33.00, 46.00, 28.00, 175.00,
+			243.00, 0.00, 33.00, 96.00, 136.00, 0.00, 13.00, 10.00,
+			92.00, 17.00, 62.00, 104.00, 0.00, 0.00, 258.00,
+			11.00, 46.00, 13.00, 76.00, 698.00, 12.00,
+			245.00, 78.00, 0.00, 0.00, 48.00,
+			550.00, 75.00, 34.00, 30.00,
+			0.00, 42.00, 157.00,
+			61.00, 0.00,
+			28.00
+		},
+		// DCMUT
+		{
+			26.78280, 98.44740, 119.98050, 36.00160, 88.77530, 196.11670, 238.61110, 22.81160, 65.34160, 40.64310, 25.86350, 71.78400, 18.36410, 248.59200, 405.18700, 368.03650, 0.00000, 24.41390, 205.95640,
+			32.70590, 0.00000, 23.23740, 243.99390, 0.00000, 8.77910, 238.31480, 63.26290, 15.49240, 461.01240, 89.63210, 13.69060, 102.83130, 153.15900, 26.57450, 200.13750, 7.80120, 24.03680,
+			893.15150, 0.00000, 102.85090, 149.34090, 138.53520, 529.00240, 76.80240, 34.11130, 314.83710, 0.00000, 13.85030, 41.92440, 488.58920, 227.16970, 22.49680, 94.69400, 15.80670,
+			0.00000, 134.85510, 1138.86590, 124.09810, 86.82410, 23.92480, 0.00000, 71.69130, 0.00000, 0.00000, 13.39400, 95.60970, 66.09300, 0.00000, 0.00000, 17.83160,
+			0.00000, 0.00000, 10.72780, 28.27290, 43.80740, 0.00000, 0.00000, 0.00000, 0.00000, 18.75500, 159.83560, 16.23660, 0.00000, 95.31640, 48.46780,
+			708.60220, 28.15810, 601.16130, 18.03930, 73.07720, 151.90780, 112.74990, 0.00000, 152.61880, 56.18280, 52.56510, 0.00000, 0.00000, 34.69830,
+			81.19070, 43.94690, 60.95260, 11.28800, 83.00780, 30.48030, 0.00000, 50.70030, 79.39990, 34.01560, 0.00000, 21.47170, 36.72500,
+			10.68020, 0.00000, 7.15140, 26.76830, 17.03720, 15.34780, 34.71530, 232.22430, 30.66620, 0.00000, 0.00000, 53.81650,
+			7.69810, 44.35040, 27.04750, 0.00000, 47.59270, 93.37090, 35.36430, 22.63330, 27.05640, 126.54000, 43.87150,
+			255.66850, 46.08570, 333.27320, 195.19510, 11.91520, 24.79550, 190.07390, 0.00000, 37.48340, 881.00380,
+			18.06290, 523.01150, 156.51600, 31.62580, 17.14320, 33.10900, 46.17760, 28.65720, 174.51560,
+			241.17390, 0.00000, 33.54190, 95.45570, 135.05990, 0.00000, 13.21420, 10.38500,
+			92.18600, 17.02050, 61.99510, 103.15340, 0.00000, 0.00000, 256.59550,
+			11.05060, 45.99010, 13.66550, 76.23540, 695.26290, 12.36060,
+			242.72020, 78.28570, 0.00000, 0.00000, 48.50260,
+			543.66740, 74.08190, 33.62890, 30.38360,
+			0.00000, 41.78390, 156.19970,
+			60.80700, 0.00000,
+			27.93790
+		},
+		// JTT
+		{
+			58.00, 54.00, 81.00, 56.00, 57.00, 105.00, 179.00, 27.00, 36.00, 30.00, 35.00, 54.00, 15.00, 194.00, 378.00, 475.00, 9.00, 11.00, 298.00,
+			45.00, 16.00, 113.00, 310.00, 29.00, 137.00, 328.00, 22.00, 38.00, 646.00, 44.00, 5.00, 74.00, 101.00, 64.00, 126.00, 20.00, 17.00,
+			528.00, 34.00, 86.00, 58.00, 81.00, 391.00, 47.00, 12.00, 263.00, 30.00, 10.00, 15.00, 503.00, 232.00, 8.00, 70.00, 16.00,
+			10.00, 49.00, 767.00, 130.00, 112.00, 11.00, 7.00, 26.00, 15.00, 4.00, 15.00, 59.00, 38.00, 4.00, 46.00, 31.00,
+			9.00, 5.00, 59.00, 69.00, 17.00, 23.00, 7.00, 31.00, 78.00, 14.00, 223.00, 42.00, 115.00, 209.00, 62.00,
+			323.00, 26.00, 597.00, 9.00, 72.00, 292.00, 43.00, 4.00, 164.00, 53.00, 51.00, 18.00, 24.00, 20.00,
+			119.00, 26.00, 12.00, 9.00, 181.00, 18.00, 5.00, 18.00, 30.00, 32.00, 10.00, 7.00, 45.00,
+			23.00, 6.00, 6.00, 27.00, 14.00, 5.00, 24.00, 201.00, 33.00, 55.00, 8.00, 47.00,
+			16.00, 56.00, 45.00, 33.00, 40.00, 115.00, 73.00, 46.00, 8.00, 573.00, 11.00,
+			229.00, 21.00, 479.00, 89.00, 10.00, 40.00, 245.00, 9.00, 32.00, 961.00,
+			14.00, 388.00, 248.00, 102.00, 59.00, 25.00, 52.00, 24.00, 180.00,
+			65.00, 4.00, 21.00, 47.00, 103.00, 10.00, 8.00, 14.00,
+			43.00, 16.00, 29.00, 226.00, 24.00, 18.00, 323.00,
+			17.00, 92.00, 12.00, 53.00, 536.00, 62.00,
+			285.00, 118.00, 6.00, 10.00, 23.00,
+			477.00, 35.00, 63.00, 38.00,
+			12.00, 21.00, 112.00,
+			71.00, 25.00,
+			16.00
+		},
+		// MTREV
+		{
+			23.18, 26.95, 17.67, 59.93, 1.90, 9.77, 120.71, 13.90, 96.49, 25.46, 8.36, 141.88, 6.37, 54.31, 387.86, 480.72, 1.90, 6.48, 195.06,
+			13.24, 1.90, 103.33, 220.99, 1.90, 23.03, 165.23, 1.90, 15.58, 141.40, 1.90, 4.69, 23.64, 6.04, 2.08, 21.95, 1.90, 7.64,
+			794.38, 58.94, 173.56, 63.05, 53.30, 496.13, 27.10, 15.16, 608.70, 65.41, 15.20, 73.31, 494.39, 238.46, 10.68, 191.36, 1.90,
+			1.90, 55.28, 583.55, 56.77, 113.99, 4.34, 1.90, 2.31, 1.90, 4.98, 13.43, 69.02, 28.01, 19.86, 21.21, 1.90,
+			75.24, 1.90, 30.71, 141.49, 62.73, 25.65, 1.90, 6.18, 70.80, 31.26, 277.05, 179.97, 33.60, 254.77, 1.90,
+			313.56, 6.75, 582.40, 8.34, 39.70, 465.58, 47.37, 19.11, 137.29, 54.11, 94.93, 1.90, 38.82, 19.00,
+			28.28, 49.12, 3.31, 1.90, 313.86, 1.90, 2.67, 12.83, 54.71, 14.82, 1.90, 13.12, 21.14,
+			1.90, 5.98, 2.41, 22.73, 1.90, 1.90, 1.90, 125.93, 11.17, 10.92, 3.21, 2.53,
+			12.26, 11.49, 127.67, 11.97, 48.16, 60.97, 77.46, 44.78, 7.08, 670.14, 1.90,
+			329.09, 19.57, 517.98, 84.67, 20.63, 47.70, 368.43, 1.90, 25.01, 1222.94,
+			14.88, 537.53, 216.06, 40.10, 73.61, 126.40, 32.44, 44.15, 91.67,
+			91.37, 6.44, 50.10, 105.79, 136.33, 24.00, 51.17, 1.90,
+			90.82, 18.84, 111.16, 528.17, 21.71, 39.96, 387.54,
+			17.31, 64.29, 33.85, 7.84, 465.58, 6.35,
+			169.90, 128.22, 4.21, 16.21, 8.23,
+			597.21, 38.58, 64.92, 1.90,
+			9.99, 38.73, 204.54,
+			26.25, 5.37,
+			1.90
+		},
+		// WAG
+		{
+			55.15710, 50.98480, 73.89980, 102.70400, 90.85980, 158.28500, 141.67200, 31.69540, 19.33350, 39.79150, 90.62650, 89.34960, 21.04940, 143.85500, 337.07900, 212.11100, 11.31330, 24.07350, 200.60100,
+			63.53460, 14.73040, 52.81910, 303.55000, 43.91570, 58.46650, 213.71500, 18.69790, 49.76710, 535.14200, 68.31620, 10.27110, 67.94890, 122.41900, 55.44130, 116.39200, 38.15330, 25.18490,
+			542.94200, 26.52560, 154.36400, 94.71980, 112.55600, 395.62900, 55.42360, 13.15280, 301.20100, 19.82210, 9.61621, 19.50810, 397.42300, 203.00600, 7.19167, 108.60000, 19.62460,
+			3.02949, 61.67830, 617.41600, 86.55840, 93.06760, 3.94370, 8.48047, 47.98550, 10.37540, 4.67304, 42.39840, 107.17600, 37.48660, 12.97670, 32.57110, 15.23350,
+			9.88179, 2.13520, 30.66740, 24.89720, 17.01350, 38.42870, 7.40339, 39.04820, 39.80200, 10.94040, 140.76600, 51.29840, 71.70700, 54.38330, 100.21400,
+			546.94700, 33.00520, 429.41100, 11.39170, 86.94890, 389.49000, 154.52600, 9.99208, 93.33720, 102.88700, 85.79280, 21.57370, 22.77100, 30.12810,
+			56.77170, 57.00250, 12.73950, 15.42630, 258.44300, 31.51240, 8.11339, 68.23550, 70.49390, 82.27650, 15.65570, 19.63030, 58.87310,
+			24.94100, 3.04501, 6.13037, 37.35580, 17.41000, 4.99310, 24.35700, 134.18200, 22.58330, 33.69830, 10.36040, 18.72470,
+			13.81900, 49.94620, 89.04320, 40.41410, 67.93710, 69.61980, 74.01690, 47.33070, 26.25690, 387.34400, 11.83580,
+			317.09700, 32.38320, 425.74600, 105.94700, 9.99288, 31.94400, 145.81600, 21.24830, 42.01700, 782.13000,
+			25.75550, 485.40200, 211.51700, 41.58440, 34.47390, 32.66220, 66.53090, 39.86180, 180.03400,
+			93.42760, 8.88360, 55.68960, 96.71300, 138.69800, 13.75050, 13.32640, 30.54340,
+			119.06300, 17.13290, 49.39050, 151.61200, 51.57060, 42.84370, 205.84500,
+			16.14440, 54.59310, 17.19030, 152.96400, 645.42800, 64.98920,
+			161.32800, 79.53840, 13.94050, 21.60460, 31.48870,
+			437.80200, 52.37420, 78.69930, 23.27390,
+			11.08640, 29.11480, 138.82300,
+			248.53900, 36.53690,
+			31.47300
+		},
+		// RTREV
+		{
+			34, 51, 10, 439, 32, 81, 135, 30, 1, 45, 38, 235, 1, 97, 460, 258, 5, 55, 197,
+			35, 30, 92, 221, 10, 41, 90, 24, 18, 593, 57, 7, 24, 102, 64, 13, 47, 29,
+			384, 128, 236, 79, 94, 320, 35, 15, 123, 1, 49, 33, 294, 148, 16, 28, 21,
+			1, 78, 542, 61, 91, 1, 5, 20, 1, 1, 55, 136, 55, 1, 1, 6,
+			70, 1, 48, 124, 104, 110, 16, 156, 70, 1, 75, 117, 55, 131, 295,
+			372, 18, 387, 33, 54, 309, 158, 1, 68, 225, 146, 10, 45, 36,
+			70, 34, 1, 21, 141, 1, 1, 52, 95, 82, 17, 1, 35,
+			68, 1, 3, 30, 37, 7, 17, 152, 7, 23, 21, 3,
+			34, 51, 76, 116, 141, 44, 183, 49, 48, 307, 1,
+			385, 34, 375, 64, 10, 4, 72, 39, 26, 1048,
+			23, 581, 179, 22, 24, 25, 47, 64, 112,
+			134, 14, 43, 77, 110, 6, 1, 19,
+			247, 1, 1, 131, 111, 74, 236,
+			11, 20, 69, 182, 1017, 92,
+			134, 62, 9, 14, 25,
+			671, 14, 31, 39,
+			1, 34, 196,
+			176, 26,
+			59
+		},
+		// CPREV
+		{
+			105, 227, 175, 669, 157, 499, 665, 66, 145, 197, 236, 185, 68, 490, 2440, 1340, 14, 56, 968,
+			357, 43, 823, 1745, 152, 243, 715, 136, 203, 4482, 125, 53, 87, 385, 314, 230, 323, 92,
+			4435, 538, 768, 1055, 653, 1405, 168, 113, 2430, 61, 97, 173, 2085, 1393, 40, 754, 83,
+			10, 400, 3691, 431, 331, 10, 10, 412, 47, 22, 170, 590, 266, 18, 281, 75,
+			10, 10, 303, 441, 280, 396, 48, 159, 726, 285, 2331, 576, 435, 1466, 592,
+			3122, 133, 1269, 92, 286, 3313, 202, 10, 323, 396, 241, 53, 391, 54,
+			379, 162, 148, 82, 2629, 113, 145, 185, 568, 369, 63, 142, 200,
+			19, 40, 20, 263, 21, 25, 28, 691, 92, 82, 10, 91,
+			29, 66, 305, 10, 127, 152, 303, 32, 69, 1971, 25,
+			1745, 345, 1772, 454, 117, 216, 1040, 42, 89, 4797,
+			218, 1351, 1268, 219, 516, 156, 159, 189, 865,
+			193, 72, 302, 868, 918, 10, 247, 249,
+			327, 100, 93, 645, 86, 215, 475,
+			43, 487, 148, 468, 2370, 317,
+			1202, 260, 49, 97, 122,
+			2151, 73, 522, 167,
+			29, 71, 760,
+			346, 10,
+			119
+		},
+		// VT
+		{
+			1.2412691067876198, 1.2184237953498958, 1.3759368509441177, 2.4731223087544874, 2.2155167805137470, 2.3379911207495061, 3.3386555146457697, 0.9615841926910841, 0.8908203061925510, 1.0778497408764076, 1.4932055816372476, 1.9006455961717605, 0.6883439026872615, 2.7355620089953550, 6.4208961859142883, 5.2892514169776437, 0.5488578478106930, 0.5411769916657778, 4.6501894691803214,
+			1.5720770753326880, 0.7550654439001206, 1.4414262567428417, 5.5120819705248678, 1.3542404860613146, 1.3121700301622004, 4.9238668283945266, 0.4323005487925516, 0.8386701149158265, 10.017330817366002, 1.2488638689609959, 0.4224945197276290, 1.3091837782420783, 1.9202994262316166, 1.3363401740560601, 1.5170142153962840, 0.8912614404565405, 0.7807017855806767,
+			7.8584219153689405, 0.9784679122774127, 3.0143201670924822, 2.0093434778398112, 2.4117632898861809, 6.1974384977884114, 0.9179291175331520, 0.4098311270816011, 4.4034547578962568, 0.9378803706165143, 0.5044944273324311, 0.7103720531974738, 6.1234512396801764, 3.8852506105922231, 0.1808525752605976, 1.0894926581511342, 0.4586061981719967,
+			0.2272488448121475, 1.6562495638176040, 9.6883451875685065, 1.9142079025990228, 2.1459640610133781, 0.2161660372725585, 0.3574207468998517, 1.4521790561663968, 0.4075239926000898, 0.1675129724559251, 1.0714605979577547, 2.2161944596741829, 1.5066839872944762, 0.2496584188151770, 0.7447620891784513, 0.4594535241660911,
+			0.4587469126746136, 0.4519167943192672, 1.1034605684472507, 1.5196756759380692, 0.9126668032539315, 1.4081315998413697, 0.3371091785647479, 1.2213054800811556, 1.6953951980808002, 0.4326227078645523, 3.6366815408744255, 1.7557065205837685, 1.6275179891253113, 2.1579775140421025, 2.2627456996290891,
+			6.8124601839937675, 0.8776110594765502, 7.9943228564946525, 0.4882733432879921, 1.3318097154194044, 6.0519085243118811, 1.9106190827629084, 0.3573432522499545, 2.3019177728300728, 2.3193703643237220, 2.1576510103471440, 0.8959082681546182, 0.9183596801412757, 0.6366932501396869,
+			1.3860121390169038, 1.6360079688522375, 0.4035497929633328, 0.5610717242294755, 4.3290086529582830, 0.7471936218068498, 0.2317194387691585, 1.5132807416252063, 1.8273535587773553, 1.5839981708584689, 0.4198391148111098, 0.5818111331782764, 0.8940572875547330,
+			0.8561248973045037, 0.2888075033037488, 0.3578662395745526, 0.8945563662345198, 0.5954812791740037, 0.3693722640980460, 0.7744933618134962, 3.0637776193717610, 0.7147489676267383, 0.9349753595598769, 0.3374467649724478, 0.6193321034173915,
+			0.5787937115407940, 1.0765007949562073, 1.8085136096039203, 1.3808291710019667, 1.3629765501081097, 1.8370555852070649, 1.9699895187387506, 1.6136654573285647, 0.6301954684360302, 7.7587442309146040, 0.5333220944030346,
+			6.0019110258426362, 0.6244297525127139, 6.7597899772045418, 2.2864286949316077, 0.4811402387911145, 0.6047491507504744, 2.6344778384442731, 0.5604648274060783, 0.8626796044156272, 14.872933461519061,
+			0.5642322882556321, 8.0327792947421148, 4.3611548063555778, 1.0084320519837335, 0.8953754669269811, 1.0192004372506540, 1.5183114434679339, 1.2452243224541324, 3.5458093276667237,
+			1.7129670976916258, 0.3910559903834828, 1.3918935593582853, 1.9776630140912268, 2.5513781312660280, 0.5851920879490173, 0.7835447533710449, 0.7801080335991272,
+			2.3201373546296349, 0.4953193808676289, 1.0657482318076852, 3.3628488360462363, 1.4680478689711018, 1.0899165770956820, 4.0584577156753401,
+			0.3746821107962129, 1.1079144700606407, 0.6882725908872254, 3.3448437239772266, 10.384852333133459, 1.7039730522675411,
+			3.5465914843628927, 1.9485376673137556, 0.4326058001438786, 0.4819109019647465, 0.5985498912985666,
+			8.8479984061248178, 0.6791126595939816, 0.9547229305958682, 0.9305232113028208,
+			0.4514203099376473, 0.8564314184691215, 3.4242218450865543,
+			4.5377235790405388, 0.5658969249032649,
+			1.0000000000000000
+		},
+		// BLOSUM62
+		{
+			0.735790389698, 0.485391055466, 0.543161820899, 1.45999531047, 1.199705704602, 1.1709490428, 1.95588357496, 0.716241444998, 0.605899003687, 0.800016530518, 1.295201266783, 1.253758266664, 0.492964679748, 1.173275900924, 4.325092687057, 1.729178019485, 0.465839367725, 0.718206697586, 2.187774522005,
+			1.297446705134, 0.500964408555, 0.227826574209, 3.020833610064, 1.36057419042, 0.418763308518, 1.456141166336, 0.232036445142, 0.622711669692, 5.411115141489, 0.983692987457, 0.371644693209, 0.448133661718, 1.12278310421, 0.914665954563, 0.426382310122, 0.720517441216, 0.438388343772,
+			3.180100048216, 0.397358949897, 1.839216146992, 1.24048850864, 1.355872344485, 2.414501434208, 0.283017326278, 0.211888159615, 1.593137043457, 0.648441278787, 0.354861249223, 0.494887043702, 2.904101656456, 1.898173634533, 0.191482046247, 0.538222519037, 0.312858797993,
+			0.240836614802, 1.190945703396, 3.761625208368, 0.798473248968, 0.778142664022, 0.418555732462, 0.218131577594, 1.032447924952, 0.222621897958, 0.281730694207, 0.730628272998, 1.582754142065, 0.934187509431, 0.145345046279, 0.261422208965, 0.258129289418,
+			0.32980150463, 0.140748891814, 0.418203192284, 0.354058109831, 0.774894022794, 0.831842640142, 0.285078800906, 0.76768882348, 0.441337471187, 0.356008498769, 1.197188415094, 1.119831358516, 0.527664418872, 0.470237733696, 1.116352478606,
+			5.528919177928, 0.609846305383, 2.43534113114, 0.236202451204, 0.580737093181, 3.945277674515, 2.494896077113, 0.14435695975, 0.858570575674, 1.934870924596, 1.277480294596, 0.758653808642, 0.95898974285, 0.530785790125,
+			0.423579992176, 1.626891056982, 0.186848046932, 0.372625175087, 2.802427151679, 0.55541539747, 0.291409084165, 0.926563934846, 1.769893238937, 1.071097236007, 0.407635648938, 0.596719300346, 0.524253846338,
+			0.539859124954, 0.189296292376, 0.217721159236, 0.752042440303, 0.459436173579, 0.368166464453, 0.504086599527, 1.509326253224, 0.641436011405, 0.508358924638, 0.308055737035, 0.25334079019,
+			0.252718447885, 0.348072209797, 1.022507035889, 0.984311525359, 0.714533703928, 0.527007339151, 1.11702976291, 0.585407090225, 0.30124860078, 4.218953969389, 0.20155597175,
+			3.890963773304, 0.406193586642, 3.364797763104, 1.517359325954, 0.388355409206, 0.35754441246, 1.17909119726, 0.34198578754, 0.674617093228, 8.311839405458,
+			0.445570274261, 6.030559379572, 2.064839703237, 0.374555687471, 0.352969184527, 0.915259857694, 0.6914746346, 0.811245856323, 2.231405688913,
+			1.073061184332, 0.266924750511, 1.047383450722, 1.752165917819, 1.303875200799, 0.332243040634, 0.7179934869, 0.498138475304,
+			1.77385516883, 0.454123625103, 0.918723415746, 1.488548053722, 0.888101098152, 0.951682162246, 2.575850755315,
+			0.233597909629, 0.540027644824, 0.488206118793, 2.074324893497, 6.747260430801, 0.838119610178,
+			1.169129577716, 1.005451683149, 0.252214830027, 0.369405319355, 0.496908410676,
+			5.15155629227, 0.387925622098, 0.796751520761, 0.561925457442,
+			0.513128126891, 0.801010243199, 2.253074051176,
+			4.054419006558, 0.266508731426,
+			1
+		},
+		// MTMAM
+		{
+			32, 2, 11, 0, 0, 0, 78, 8, 75, 21, 0, 76, 0, 53, 342, 681, 5, 0, 398,
+			4, 0, 186, 246, 0, 18, 232, 0, 6, 50, 0, 0, 9, 3, 0, 16, 0, 0,
+			864, 0, 8, 0, 47, 458, 19, 0, 408, 21, 6, 33, 446, 110, 6, 156, 0,
+			0, 49, 569, 79, 11, 0, 0, 0, 0, 5, 2, 16, 0, 0, 0, 10,
+			0, 0, 0, 305, 41, 27, 0, 0, 7, 0, 347, 114, 65, 530, 0,
+			274, 0, 550, 0, 20, 242, 22, 0, 51, 30, 0, 0, 54, 33,
+			22, 22, 0, 0, 215, 0, 0, 0, 21, 4, 0, 0, 20,
+			0, 0, 0, 0, 0, 0, 0, 112, 0, 0, 1, 5,
+			0, 26, 0, 0, 0, 53, 20, 1, 0, 1525, 0,
+			232, 6, 378, 57, 5, 0, 360, 0, 16, 2220,
+			4, 609, 246, 43, 74, 34, 12, 25, 100,
+			59, 0, 18, 65, 50, 0, 67, 0,
+			11, 0, 47, 691, 13, 0, 832,
+			17, 90, 8, 0, 682, 6,
+			202, 78, 7, 8, 0,
+			614, 17, 107, 0,
+			0, 0, 237,
+			14, 0,
+			0
+		},
+		// LG
+		{
+			0.425093, 0.276818, 0.395144, 2.489084, 0.969894, 1.038545, 2.066040, 0.358858, 0.149830, 0.395337, 0.536518, 1.124035, 0.253701, 1.177651, 4.727182, 2.139501, 0.180717, 0.218959, 2.547870,
+			0.751878, 0.123954, 0.534551, 2.807908, 0.363970, 0.390192, 2.426601, 0.126991, 0.301848, 6.326067, 0.484133, 0.052722, 0.332533, 0.858151, 0.578987, 0.593607, 0.314440, 0.170887,
+			5.076149, 0.528768, 1.695752, 0.541712, 1.437645, 4.509238, 0.191503, 0.068427, 2.145078, 0.371004, 0.089525, 0.161787, 4.008358, 2.000679, 0.045376, 0.612025, 0.083688,
+			0.062556, 0.523386, 5.243870, 0.844926, 0.927114, 0.010690, 0.015076, 0.282959, 0.025548, 0.017416, 0.394456, 1.240275, 0.425860, 0.029890, 0.135107, 0.037967,
+			0.084808, 0.003499, 0.569265, 0.640543, 0.320627, 0.594007, 0.013266, 0.893680, 1.105251, 0.075382, 2.784478, 1.143480, 0.670128, 1.165532, 1.959291,
+			4.128591, 0.267959, 4.813505, 0.072854, 0.582457, 3.234294, 1.672569, 0.035855, 0.624294, 1.223828, 1.080136, 0.236199, 0.257336, 0.210332,
+			0.348847, 0.423881, 0.044265, 0.069673, 1.807177, 0.173735, 0.018811, 0.419409, 0.611973, 0.604545, 0.077852, 0.120037, 0.245034,
+			0.311484, 0.008705, 0.044261, 0.296636, 0.139538, 0.089586, 0.196961, 1.739990, 0.129836, 0.268491, 0.054679, 0.076701,
+			0.108882, 0.366317, 0.697264, 0.442472, 0.682139, 0.508851, 0.990012, 0.584262, 0.597054, 5.306834, 0.119013,
+			4.145067, 0.159069, 4.273607, 1.112727, 0.078281, 0.064105, 1.033739, 0.111660, 0.232523, 10.649107,
+			0.137500, 6.312358, 2.592692, 0.249060, 0.182287, 0.302936, 0.619632, 0.299648, 1.702745,
+			0.656604, 0.023918, 0.390322, 0.748683, 1.136863, 0.049906, 0.131932, 0.185202,
+			1.798853, 0.099849, 0.346960, 2.020366, 0.696175, 0.481306, 1.898718,
+			0.094464, 0.361819, 0.165001, 2.457121, 7.803902, 0.654683,
+			1.338132, 0.571468, 0.095131, 0.089613, 0.296501,
+			6.472279, 0.248862, 0.400547, 0.098369,
+			0.140825, 0.245841, 2.188158,
+			3.151815, 0.189510,
+			0.249313
+		},
+		// MTART
+		{
+			0.2, 0.2, 1, 254, 0.2, 0.2, 200, 0.2, 26, 4, 0.2, 121, 13, 49, 673, 244, 0.2, 1, 340,
+			0.2, 4, 36, 154, 0.2, 0.2, 41, 2, 2, 209, 5, 5, 0.2, 3, 0.2, 0.2, 4, 0.2,
+			500, 98, 262, 183, 121, 180, 21, 13, 467, 79, 20, 17, 398, 166, 8, 251, 23,
+			11, 0.2, 862, 12, 0.2, 7, 1, 2, 0.2, 0.2, 0.2, 44, 0.2, 0.2, 0.2, 0.2,
+			0.2, 0.2, 81, 12, 63, 79, 0.2, 312, 184, 0.2, 664, 183, 22, 72, 350,
+			262, 3, 314, 11, 16, 349, 67, 0.2, 39, 52, 44, 7, 87, 0.2,
+			44, 15, 7, 2, 106, 0.2, 0.2, 8, 31, 43, 11, 8, 14,
+			0.2, 3, 1, 0.2, 56, 1, 0.2, 226, 0.2, 2, 9, 3,
+			0.2, 6, 0.2, 0.2, 14, 1, 11, 19, 0.2, 191, 0.2,
+			515, 3, 515, 118, 0.2, 7, 204, 0.2, 12, 1855,
+			4, 885, 263, 12, 8, 48, 21, 20, 85,
+			106, 11, 17, 144, 70, 16, 117, 26,
+			322, 5, 112, 289, 71, 71, 281,
+			15, 36, 14, 54, 792, 52,
+			87, 47, 0.2, 18, 32,
+			660, 2, 30, 61,
+			0.2, 46, 544,
+			38, 0.2,
+			2
+		},
+		// MTZOA
+		{
+			3.3, 1.7, 16.1, 272.5, 7.3, 17.1, 289.3, 2.3, 33.2, 15.6, 0.2, 136.5, 26.5, 61.8, 644.9, 378.1, 3.1, 2.1, 321.9,
+			33.6, 3.2, 61.1, 231.0, 6.4, 7.2, 61.7, 0.2, 4.1, 292.3, 3.8, 0.2, 7.5, 11.8, 3.2, 16.9, 13.8, 5.1,
+			617.0, 94.6, 190.3, 174.0, 99.3, 228.9, 24.3, 7.9, 413.4, 73.7, 12.9, 22.6, 420.2, 184.6, 6.4, 141.6, 7.1,
+			9.5, 19.3, 883.6, 26.0, 55.6, 1.5, 0.5, 0.2, 0.2, 2.0, 0.2, 51.4, 2.3, 0.2, 13.9, 3.7,
+			49.1, 3.4, 82.4, 37.5, 48.8, 59.7, 0.2, 264.8, 167.8, 8.1, 656.3, 199.0, 36.1, 76.7, 243.8,
+			349.4, 8.9, 421.8, 0.2, 23.0, 334.0, 83.9, 9.5, 52.2, 96.4, 39.4, 6.1, 52.3, 9.0,
+			43.1, 14.9, 7.3, 1.0, 163.2, 0.2, 0.2, 20.6, 38.4, 34.5, 3.5, 10.0, 16.3,
+			7.4, 3.4, 3.5, 10.1, 52.2, 5.8, 1.3, 257.1, 5.2, 12.3, 4.3, 23.7,
+			1.6, 6.6, 23.9, 7.1, 13.1, 15.6, 23.1, 19.4, 4.5, 266.5, 0.3,
+			425.2, 8.4, 449.7, 90.3, 2.6, 7.2, 222.3, 9.7, 13.1, 1710.6,
+			6.7, 636.3, 234.2, 11.4, 15.2, 50.0, 27.2, 5.7, 126.1,
+			83.0, 16.3, 24.3, 144.9, 75.5, 6.6, 45.0, 11.1,
+			215.6, 5.4, 95.3, 305.1, 48.7, 41.4, 279.6,
+			10.5, 32.2, 19.3, 58.2, 590.5, 59.6,
+			79.7, 56.9, 1.3, 4.2, 17.9,
+			666.3, 10.3, 29.7, 49.5,
+			3.6, 29.0, 396.4,
+			79.8, 13.7,
+			15.6
+		},
+		// PMB
+		{
+			0.674995699, 0.589645178, 0.462499504, 1.065445546, 1.111766964, 1.046334652, 1.587964372, 0.580830874, 0.464590585, 0.804404505, 0.831998835, 1.546725076, 0.546169219, 1.241586045, 3.452308792, 1.751412803, 0.35011051, 0.573154753, 2.063050067,
+			1.189067034, 0.605460903, 0.31444833, 2.967840934, 1.201770702, 0.523770553, 1.457127446, 0.35964586, 0.520701585, 4.956476453, 0.81346254, 0.303437244, 0.65577338, 0.910144334, 0.89517149, 0.618778365, 0.628599063, 0.388680158,
+			3.573373315, 0.589852457, 2.299755865, 1.277836748, 1.374854049, 2.283037894, 0.426069419, 0.41009447, 2.037575629, 0.737846301, 0.425193716, 0.711495595, 2.572577221, 1.823161023, 0.422407388, 0.720013799, 0.474418852,
+			0.246951424, 1.686058219, 4.399995525, 0.734992057, 0.839348444, 0.266775558, 0.269124919, 1.114178954, 0.341932741, 0.219005213, 0.775624818, 1.440896785, 0.994227284, 0.362495245, 0.436220437, 0.275658381,
+			0.245163782, 0.091071867, 0.31706632, 0.411543728, 0.417547309, 0.450795211, 0.274163536, 0.618614612, 0.669206193, 0.198679914, 0.99870098, 0.847312432, 0.445669347, 0.55626163, 0.998911631,
+			4.15967899, 0.596789898, 1.812173605, 0.315256838, 0.625792937, 3.521346591, 2.067388546, 0.406042546, 0.850116543, 1.348272505, 1.320626678, 0.72038474, 0.728970584, 0.634408285,
+			0.463812837, 0.877842609, 0.30421529, 0.32078471, 2.415974716, 0.531773639, 0.224154698, 0.794584081, 1.205509425, 0.949599791, 0.261258229, 0.50720003, 0.527640634,
+			0.476331437, 0.180198883, 0.259854426, 0.581001076, 0.465349326, 0.35402891, 0.588254139, 1.402122097, 0.542185658, 0.37874827, 0.284727562, 0.314700907,
+			0.285186418, 0.363981358, 0.985885486, 0.380925433, 0.576231691, 0.456058589, 0.799966711, 0.83039281, 0.72436751, 2.210952064, 0.305792277,
+			4.162454693, 0.374784947, 3.65807012, 1.495264661, 0.366232942, 0.530641901, 1.114132523, 0.516260502, 0.570562395, 8.002789424,
+			0.498011337, 5.002338375, 2.392638293, 0.430073179, 0.402471997, 0.779827336, 0.794797115, 0.811019594, 2.113077156,
+			0.661095832, 0.269496317, 1.036079005, 1.234648153, 1.290709079, 0.43340962, 0.664884513, 0.526184203,
+			2.306919847, 0.337502282, 0.945453716, 1.551488041, 0.768395107, 0.93253606, 1.737356217,
+			0.481144863, 0.613230817, 0.718895136, 3.29519344, 5.894735673, 0.983844803,
+			1.217683028, 0.780913179, 0.499869138, 0.433748126, 0.551333603,
+			4.448982584, 0.496334956, 0.593795813, 0.507506011,
+			0.38372361, 0.523549536, 1.89965079,
+			2.996248013, 0.429570747,
+			0.716795463
+		},
+		// HIVB
+		{
+			0.30750700, 0.00500000, 1.45504000, 0.12375800, 0.05511280, 1.48135000, 2.13536000, 0.08476130, 0.00500000, 0.21525600, 0.00500000, 0.01866430, 0.01412690, 2.12217000, 2.46633000, 15.91830000, 0.00500000, 0.00500000, 7.61428000,
+			0.29554300, 0.00500000, 0.35172100, 3.42150000, 0.07492180, 3.65345000, 9.04044000, 0.67728900, 0.70142700, 20.45000000, 2.51394000, 0.00500000, 1.28355000, 3.47910000, 2.86868000, 0.99133800, 0.00991826, 0.08124540,
+			17.66120000, 0.08606420, 0.67205200, 0.07926330, 0.32340100, 7.64585000, 0.68056500, 0.00500000, 7.90443000, 0.00500000, 0.00500000, 0.00739578, 13.14470000, 6.88667000, 0.00500000, 1.76417000, 0.02665600,
+			0.00500000, 0.00500000, 10.58720000, 2.83806000, 1.91690000, 0.01767920, 0.00876048, 0.00500000, 0.00500000, 0.00500000, 0.03426580, 0.52823000, 0.27472400, 0.00500000, 0.67465300, 1.04793000,
+			0.00500000, 0.00500000, 0.89787100, 0.24007300, 0.00500000, 0.12977700, 0.00500000, 0.00500000, 9.29815000, 0.00500000, 4.69314000, 0.73996900, 2.63277000, 7.57932000, 0.42002700,
+			2.56020000, 0.06191370, 7.05545000, 0.00500000, 1.49456000, 6.54737000, 0.30367600, 0.00500000, 4.47211000, 0.11631100, 0.24358900, 0.02665600, 0.11303300, 0.02091530,
+			3.92775000, 0.11974000, 0.00609079, 0.00500000, 4.61482000, 0.17578900, 0.00500000, 0.01202260, 0.00500000, 0.28977400, 0.00500000, 0.07926330, 1.02847000,
+			0.00500000, 0.00500000, 0.00500000, 0.52170500, 0.00500000, 0.29156100, 0.00500000, 4.38041000, 0.36961500, 1.21674000, 0.00500000, 0.95315500,
+			0.10311100, 1.74171000, 0.00500000, 0.00500000, 0.14555800, 2.45318000, 0.38274700, 0.71159400, 0.06951790, 18.69430000, 0.00500000,
+			5.95879000, 0.32231900, 11.20650000, 3.39836000, 0.04105930, 1.21803000, 8.61217000, 0.00500000, 0.14816800, 17.73890000,
+			0.08149950, 5.31961000, 8.52484000, 2.07757000, 0.92765600, 0.04376730, 0.74884300, 0.11198600, 1.41036000,
+			1.28246000, 0.03426580, 0.03138620, 0.50411100, 4.67142000, 0.00500000, 0.00500000, 0.26582900,
+			0.18802500, 0.00500000, 0.00500000, 4.94026000, 0.08907800, 0.00500000, 6.85320000,
+			0.00500000, 0.95647200, 0.01412690, 0.82934300, 15.34000000, 0.72327400,
+			5.37762000, 2.01417000, 0.04445060, 0.03043810, 0.00500000,
+			8.93107000, 0.02487280, 0.64802400, 0.07492180,
+			0.00500000, 0.10565200, 0.70922600,
+			1.28022000, 0.00500000,
+			0.04105930
+		},
+		// HIVW
+		{
+			0.0744808, 0.6175090, 4.4352100, 0.1676530, 0.0050000, 5.5632500, 1.8685000, 0.0050000, 0.0050000, 0.1602400, 0.5927840, 0.0050000, 0.5979230, 1.0098100, 8.5942000, 24.1422000, 0.0050000, 0.0050000, 24.8094000,
+			0.1602400, 0.0674539, 2.8636400, 10.6746000, 0.0251632, 13.4379000, 6.8440500, 1.3406900, 0.5867570, 39.8897000, 3.2865200, 0.0050000, 0.4047230, 8.3502400, 0.9282030, 5.9656400, 0.0050000, 0.2794250,
+			29.4087000, 0.0604932, 0.3420680, 0.2015260, 0.0604932, 8.5987600, 0.9870280, 0.0050000, 10.6655000, 0.2015260, 0.0050000, 0.3448480, 14.5699000, 4.5420600, 0.0050000, 5.0647500, 0.0744808,
+			0.0050000, 0.0050000, 12.1233000, 10.3969000, 2.3177900, 0.1451240, 0.0050000, 0.8943130, 0.0050000, 0.0050000, 0.0050000, 0.4278810, 0.6303950, 0.0050000, 2.2815400, 2.9178600,
+			0.0050000, 0.0050000, 0.0489798, 0.0050000, 0.0050000, 0.0050000, 0.0050000, 0.0050000, 0.3629590, 0.0050000, 1.1219500, 0.0050000, 5.4989400, 8.3483500, 0.0050000,
+			3.2065600, 0.0604932, 18.5465000, 0.0342252, 2.8904800, 13.0705000, 0.0050000, 0.0050000, 3.0450200, 0.1602400, 0.2030910, 0.0443298, 0.0050000, 0.0050000,
+			14.7801000, 0.0050000, 0.0390512, 0.1298390, 23.9626000, 0.0050000, 0.0050000, 0.0050000, 0.0050000, 0.4587430, 0.0050000, 0.0050000, 2.1995200,
+			0.0050000, 0.0050000, 0.0489798, 0.2794250, 0.0489798, 0.0050000, 0.0050000, 6.2796600, 0.0489798, 2.8258000, 0.0050000, 2.7962200,
+			0.0050000, 1.7638200, 0.2240600, 0.0050000, 0.0050000, 13.9444000, 0.7251570, 0.9595600, 0.0050000, 47.4889000, 0.8274790,
+			9.1024600, 0.8174810, 17.3064000, 1.4828800, 0.0050000, 0.7400910, 9.3634500, 0.0050000, 0.1145120, 24.8231000,
+			0.0050000, 11.3839000, 7.4878100, 9.8309500, 6.1439600, 0.0050000, 1.3703100, 0.0050000, 2.9534400,
+			4.0956400, 0.0050000, 0.1119280, 0.0050000, 4.0480200, 0.0050000, 0.0050000, 0.1280650,
+			0.0050000, 0.0050000, 0.3925750, 7.4131300, 0.0050000, 0.5791980, 14.7683000,
+			0.0342252, 4.2793900, 0.1145120, 0.0050000, 4.1272800, 2.2800000,
+			14.2490000, 4.3370100, 0.0050000, 0.0050000, 0.0050000,
+			6.3407900, 1.1015600, 0.9331420, 0.8626370,
+			0.0050000, 0.4906080, 0.0050000,
+			0.0050000, 0.0050000,
+			1.3548200
+		},
+		// JTTDCMUT
+		{
+			0.531678, 0.557967, 0.827445, 0.574478, 0.556725, 1.066681, 1.740159, 0.219970, 0.361684, 0.310007, 0.369437, 0.469395, 0.138293, 1.959599, 3.887095, 4.582565, 0.084329, 0.139492, 2.924161,
+			0.451095, 0.154899, 1.019843, 3.021995, 0.318483, 1.359652, 3.210671, 0.239195, 0.372261, 6.529255, 0.431045, 0.065314, 0.710489, 1.001551, 0.650282, 1.257961, 0.235601, 0.171995,
+			5.549530, 0.313311, 0.768834, 0.578115, 0.773313, 4.025778, 0.491003, 0.137289, 2.529517, 0.330720, 0.073481, 0.121804, 5.057964, 2.351311, 0.027700, 0.700693, 0.164525,
+			0.105625, 0.521646, 7.766557, 1.272434, 1.032342, 0.115968, 0.061486, 0.282466, 0.190001, 0.032522, 0.127164, 0.589268, 0.425159, 0.057466, 0.453952, 0.315261,
+			0.091304, 0.053907, 0.546389, 0.724998, 0.150559, 0.164593, 0.049009, 0.409202, 0.678335, 0.123653, 2.155331, 0.469823, 1.104181, 2.114852, 0.621323,
+			3.417706, 0.231294, 5.684080, 0.078270, 0.709004, 2.966732, 0.456901, 0.045683, 1.608126, 0.548807, 0.523825, 0.172206, 0.254745, 0.179771,
+			1.115632, 0.243768, 0.111773, 0.097485, 1.731684, 0.175084, 0.043829, 0.191994, 0.312449, 0.331584, 0.114381, 0.063452, 0.465271,
+			0.201696, 0.053769, 0.069492, 0.269840, 0.130379, 0.050212, 0.208081, 1.874296, 0.316862, 0.544180, 0.052500, 0.470140,
+			0.181788, 0.540571, 0.525096, 0.329660, 0.453428, 1.141961, 0.743458, 0.477355, 0.128193, 5.848400, 0.121827,
+			2.335139, 0.202562, 4.831666, 0.777090, 0.098580, 0.405119, 2.553806, 0.134510, 0.303445, 9.533943,
+			0.146481, 3.856906, 2.500294, 1.060504, 0.592511, 0.272514, 0.530324, 0.241094, 1.761439,
+			0.624581, 0.024521, 0.216345, 0.474478, 0.965641, 0.089134, 0.087904, 0.124066,
+			0.436181, 0.164215, 0.285564, 2.114728, 0.201334, 0.189870, 3.038533,
+			0.148483, 0.943971, 0.138904, 0.537922, 5.484236, 0.593478,
+			2.788406, 1.176961, 0.069965, 0.113850, 0.211561,
+			4.777647, 0.310927, 0.628608, 0.408532,
+			0.080556, 0.201094, 1.143980,
+			0.747889, 0.239697,
+			0.165473
+		},
+		// FLU
+		{
+			0.138658765, 0.053366579, 0.584852306, 0.026447095, 0.353753982, 1.484234503, 1.132313122, 0.214757862, 0.149926734, 0.023116952, 0.47433361, 0.058745423, 0.080490909, 0.659311478, 3.011344519, 5.418298175, 1.96E-01, 0.018289288, 3.53200527,
+			0.161000889, 0.006771843, 0.167207008, 3.292716942, 0.124897617, 1.190624465, 1.879569938, 0.246117172, 0.296045557, 15.30009662, 0.890162346, 1.61E-02, 0.15402718, 0.95013841, 0.183076905, 1.369429408, 0.099855497, 0.103964386,
+			7.737392871, 1.30E-05, 0.530642655, 0.061652192, 0.322524648, 1.387096032, 0.218571975, 8.36E-04, 2.646847965, 0.005251688, 8.36E-04, 3.64E-02, 3.881310531, 2.140332316, 5.36E-04, 0.373101927, 0.010257517,
+			1.41E-02, 0.145469388, 5.370511279, 1.934832784, 0.887570549, 0.014085917, 0.005730682, 0.29004298, 0.041762964, 1.06E-06, 0.188539456, 0.338372183, 0.135481233, 1.49E-05, 0.525398543, 0.297123975,
+			0.002547334, 3.91E-11, 0.116941459, 2.18E-02, 0.001112158, 0.005613627, 3.83E-06, 0.11145731, 0.104053666, 1.59E-13, 0.336263345, 0.011975266, 0.09410668, 0.601692431, 0.054904564,
+			1.195629122, 0.108051341, 5.330313412, 0.02883995, 1.020366955, 2.559587177, 0.190259181, 0.032680657, 0.712769599, 0.487822499, 0.602340963, 4.40E-02, 0.072205935, 0.406697814,
+			1.593098825, 0.256491863, 1.42E-02, 0.016499536, 3.881488809, 0.313974351, 0.001003501, 0.319558828, 0.307140298, 0.280124895, 0.155245492, 0.10409287, 0.285047948,
+			0.058774527, 1.63E-05, 0.006516229, 0.264148929, 0.001500467, 0.001236645, 0.038631761, 1.585646577, 0.01880803, 0.196486447, 0.074814997, 0.337229619,
+			0.243190142, 0.321611694, 0.347302791, 0.001273509, 0.119028506, 0.924466914, 0.58070425, 0.368713573, 2.24E-02, 6.448954446, 0.098631355,
+			3.512072282, 0.227707997, 9.017954203, 1.463357278, 0.080543327, 0.290381075, 2.904052286, 0.03213215, 0.273934263, 14.39405219,
+			0.129223639, 6.746936485, 2.986800036, 0.634308521, 0.570766693, 0.044926357, 0.431277663, 0.340058468, 0.890598579,
+			1.331291619, 3.20E-01, 0.195750632, 0.283807672, 1.5269642, 4.98E-05, 0.012416222, 0.07312793,
+			0.279910509, 5.69E-02, 0.007026588, 2.031511321, 0.070460039, 0.874272175, 4.904842235,
+			0.00713243, 0.99668567, 0.000134906, 0.814753094, 5.393924245, 0.592587985,
+			2.087385344, 0.542251094, 0.000431021, 1.82E-04, 0.058971975,
+			2.206859934, 0.099835753, 0.39255224, 0.088256423,
+			0.207066206, 0.12489802, 0.654109108,
+			0.42775543, 0.256900461,
+			0.167581647
+		}
+	};
+	
+	static final double[][] FREQUENCIES = {
+		// DAYHOFF
+		{ 0.087000, 0.041000, 0.040000, 0.047000, 0.034000, 0.038000, 0.050000, 0.089000, 0.034000, 0.037000,
+		  0.085000, 0.080000, 0.014000, 0.040000, 0.051000, 0.070000, 0.058000, 0.011000, 0.030000, 0.064000 },
+		// DCMUT
+		{ 0.08700, 0.04100, 0.04000, 0.04700, 0.03300, 0.03800, 0.04900, 0.08900, 0.03400, 0.03700,
+		  0.08500, 0.08000, 0.01500, 0.04000, 0.05200, 0.06900, 0.05900, 0.01000, 0.03000, 0.06500 },
+		// JTT
+		{ 0.07700, 0.05200, 0.04200, 0.05100, 0.02000, 0.04100, 0.06200, 0.07300, 0.02300, 0.05400,
+		  0.09200, 0.05900, 0.02400, 0.04000, 0.05100, 0.06900, 0.05800, 0.01400, 0.03200, 0.06600 },
+		// MTREV
+		{ 0.072000, 0.019000, 0.039000, 0.019000, 0.006000, 0.025000, 0.024000, 0.056000, 0.028000, 0.088000,
+		  0.169000, 0.023000, 0.054000, 0.061000, 0.054000, 0.072000, 0.086000, 0.029000, 0.033000, 0.043000 },
+		// WAG
+		{ 0.08700, 0.04400, 0.03900, 0.05700, 0.01900, 0.03700, 0.05800, 0.08300, 0.02400, 0.04900,
+		  0.08600, 0.06200, 0.02000, 0.03800, 0.04600, 0.07000, 0.06100, 0.01400, 0.03500, 0.07100 },
+		// RTREV
+		{ 0.0646, 0.0453, 0.0376, 0.0422, 0.0114, 0.0606, 0.0607, 0.0639, 0.0273, 0.0679,
+		  0.1018, 0.0751, 0.015, 0.0287, 0.0681, 0.0488, 0.0622, 0.0251, 0.0318, 0.0619 },
+		// CPREV
+		{ 0.076, 0.062, 0.041, 0.037, 0.009, 0.038, 0.049, 0.084, 0.025, 0.081,
+		  0.101, 0.05, 0.022, 0.051, 0.043, 0.062, 0.054, 0.018, 0.031, 0.066 },
+		// VT
+		{ 0.0770764620135024, 0.0500819370772208, 0.0462377395993731, 0.0537929860758246, 0.0144533387583345, 0.0408923608974345, 0.0633579339160905, 0.0655672355884439, 0.0218802687005936, 0.0591969699027449,
+		  0.0976461276528445, 0.0592079410822730, 0.0220695876653368, 0.0413508521834260, 0.0476871596856874, 0.0707295165111524, 0.0567759161524817, 0.0127019797647213, 0.0323746050281867, 0.0669190817443274 },
+		// BLOSUM62
+		{ 0.074, 0.052, 0.045, 0.054, 0.025, 0.034, 0.054, 0.074, 0.026, 0.068,
+		  0.099, 0.058, 0.025, 0.047, 0.039, 0.057, 0.051, 0.013, 0.032, 0.073 },
+		// MTMAM
+		{ 0.06920, 0.01840, 0.04000, 0.018600, 0.00650, 0.02380, 0.02360, 0.055700, 0.02770, 0.09050,
+		  0.16750, 0.02210, 0.05610, 0.06110, 0.05360, 0.07250, 0.08700, 0.02930, 0.03400, 0.04280 },
+		// LG
+		{ 0.07906, 0.05594, 0.04198, 0.05305, 0.01294, 0.04077, 0.07158, 0.05734, 0.02235, 0.06216,
+		  0.09908, 0.06460, 0.02295, 0.04230, 0.04404, 0.06120, 0.05329, 0.01207, 0.03415, 0.06915 },
+		// MTART
+		{ 0.054116, 0.018227, 0.039903, 0.020160, 0.009709, 0.018781, 0.024289, 0.068183, 0.024518, 0.092638,
+		  0.148658, 0.021718, 0.061453, 0.088668, 0.041826, 0.091030, 0.049194, 0.029786, 0.039443, 0.057700 },
+		// MTZOA
+		{ 0.069, 0.021, 0.030, 0.020, 0.010, 0.019, 0.025, 0.072, 0.027, 0.085,
+		  0.157, 0.019, 0.051, 0.082, 0.045, 0.081, 0.056, 0.028, 0.037, 0.066 },
+		// PMB
+		{ 0.076, 0.054, 0.038, 0.045, 0.028, 0.034, 0.053, 0.078, 0.030, 0.060,
+		  0.096, 0.052, 0.022, 0.045, 0.042, 0.068, 0.056, 0.016, 0.036, 0.071 },
+		// HIVB
+		{ 0.060, 0.066, 0.044, 0.042, 0.020, 0.054, 0.071, 0.072, 0.022, 0.070,
+		  0.099, 0.057, 0.020, 0.029, 0.046, 0.051, 0.054, 0.033, 0.028, 0.062 },
+		// HIVW
+		{ 0.038, 0.057, 0.089, 0.034, 0.024, 0.044, 0.062, 0.084, 0.016, 0.098,
+		  0.058, 0.064, 0.016, 0.042, 0.046, 0.055, 0.081, 0.020, 0.021, 0.051 },
+		// JTTDCMUT
+		{ 0.077, 0.051, 0.043, 0.051, 0.020, 0.041, 0.062, 0.075, 0.023, 0.053,
+		  0.091, 0.059, 0.024, 0.040, 0.051, 0.068, 0.059, 0.014, 0.032, 0.066 },
+		// FLU
+		{ 0.0471, 0.0509, 0.0742, 0.0479, 0.0250, 0.0333, 0.0546, 0.0764, 0.0200, 0.0671,
+		  0.0715, 0.0568, 0.0181, 0.0305, 0.0507, 0.0884, 0.0743, 0.0185, 0.0315, 0.0632 }
+	};
+}
@@ -0,0 +1,163 @@
+import java.util.Arrays;
+
+/**
+ * The result of a nearest model query: indices into the queried library and
+ * their distances, sorted by increasing distance. The results are kept in
+ * two primitive arrays, there is no object per candidate.
+ */
+public final class Neighbors {
+	private int[] index;
+	private double[] dist;
+	private int size = 0;
+	// the k of a k nearest neighbour query, 0 for a radius query
+	private final int k;
+	
+	Neighbors(int capacity, int k) {
+		index = new int[Math.max(capacity, 1)];
+		dist = new double[Math.max(capacity, 1)];
+		this.k = k;
+	}
+	
+	static Neighbors nearest(int k) {
+		if(k < 1)
+			throw new IllegalArgumentException("k must be positive, got " + k);
+		return new Neighbors(k, k);
+	}
+	
+	static Neighbors within() {
+		return new Neighbors(16, 0);
+	}
+	
+	public int size() {
+		return size;
+	}
+	
+	public int index(int i) {
+		return index[i];
+	}
+	
+	public double dist(int i) {
+		return dist[i];
+	}
+	
+	/**
+	 * the largest distance a candidate may have to still change the result,
+	 * infinite until k candidates were seen
+	 * 
+	 * @return
+	 */
+	double bound() {
+		return k > 0 && size == k ? dist[0] : Double.POSITIVE_INFINITY;
+	}
+	
+	/**
+	 * adds a candidate, for a k nearest neighbour query the arrays are kept
+	 * as a max heap until sort() is called
+	 * 
+	 * @param i
+	 * @param d
+	 */
+	void offer(int i, double d) {
+		if(k == 0) {
+			if(size == index.length) {
+				index = Arrays.copyOf(index, size * 2);
+				dist = Arrays.copyOf(dist, size * 2);
+			}
+			index[size] = i;
+			dist[size++] = d;
+			return;
+		}
+		
+		if(size < k) {
+			int c = size++;
+			// sift up
+			while(c > 0 && dist[(c - 1) / 2] < d) {
+				int p = (c - 1) / 2;
+				index[c] = index[p];
+				dist[c] = dist[p];
+				c = p;
+			}
+			index[c] = i;
+			dist[c] = d;
+		} else if(d < dist[0]) {
+			siftDown(0, i, d, size);
+		}
+	}
+	
+	// places (i, d) at c or below in the heap of n entries
+	private void siftDown(int c, int i, double d, int n) {
+		while(2 * c + 1 < n) {
+			int l = 2 * c + 1;
+			if(l + 1 < n && dist[l + 1] > dist[l])
+				l++;
+			if(dist[l] <= d)
+				break;
+			index[c] = index[l];
+			dist[c] = dist[l];
+			c = l;
+		}
+		index[c] = i;
+		dist[c] = d;
+	}
+	
+	/**
+	 * orders the results by distance
+	 * 
+	 * @return this
+	 */
+	Neighbors sort() {
+		if(k > 0) {
+			// heap sort, the max heap yields increasing order in place
+			for(int n = size - 1; n > 0; n--) {
+				int i = index[n];
+				double d = dist[n];
+				index[n] = index[0];
+				dist[n] = dist[0];
+				siftDown(0, i, d, n);
+			}
+		} else {
+			sort(0, size - 1);
+		}
+		return this;
+	}
+	
+	// quick sort of both arrays by distance
+	private void sort(int lo, int hi) {
+		while(lo < hi) {
+			double pivot = dist[(lo + hi) >>> 1];
+			int l = lo, h = hi;
+			while(l <= h) {
+				while(dist[l] < pivot)
+					l++;
+				while(dist[h] > pivot)
+					h--;
+				if(l <= h) {
+					swap(l++, h--);
+				}
+			}
+			if(h - lo < hi - l) {
+				sort(lo, h);
+				lo = l;
+			} else {
+				sort(l, hi);
+				hi = h;
+			}
+		}
+	}
+	
+	private void swap(int a, int b) {
+		int i = index[a];
+		index[a] = index[b];
+		index[b] = i;
+		double d = dist[a];
+		dist[a] = dist[b];
+		dist[b] = d;
+	}
+	
+	public String toString() {
+		StringBuilder s = new StringBuilder();
+		for(int i = 0; i < size; i++)
+			s.append(index[i]).append('\t').append(dist[i]).append('\n');
+		return s.toString();
+	}
+}
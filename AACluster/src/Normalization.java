@@ -0,0 +1,45 @@
+/**
+ * the different ways a model can be scaled before models are compared,
+ * every constant applies its scaling in place to the given model
+ */
+public enum Normalization {
+	// no scaling at all
+	NONE(1) {
+		AAModel apply(AAModel m) {
+			return m;
+		}
+	},
+	// scaled by the maximum rate
+	MAX(AAModel.AA_SCALE) {
+		AAModel apply(AAModel m) {
+			return m.scaleMax(scale);
+		}
+	},
+	// scaled by the sum of the rates of all affected amino acids
+	OCC(20) {
+		AAModel apply(AAModel m) {
+			return m.scaleOcc(scale);
+		}
+	},
+	// scaled to one substitution per unit time (kassians approach)
+	ONE(AAModel.AA_SCALE) {
+		AAModel apply(AAModel m) {
+			return m.scaleOne(scale);
+		}
+	},
+	// kassians approach with the acid frequencies removed
+	ONE_F_LESS(AAModel.AA_SCALE) {
+		AAModel apply(AAModel m) {
+			return m.scaleOneFLess(scale);
+		}
+	};
+	
+	// the constant c handed to the scale method
+	final double scale;
+	
+	private Normalization(double scale) {
+		this.scale = scale;
+	}
+	
+	abstract AAModel apply(AAModel m);
+}
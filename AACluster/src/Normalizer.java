@@ -0,0 +1,203 @@
+import java.nio.DoubleBuffer;
+
+/**
+ * Normalizes packed model rates. The row sums that scaleOne(),
+ * scaleOneFLess() and scaleOcc() need are accumulated once per model in a
+ * single sweep, which keeps every normalization O(RATES).
+ * 
+ * normalizeAll() derives all Normalization variants of a model at once, the
+ * static normalize() methods scale whole model arrays or libraries in
+ * parallel. Results equal the AAModel scale methods up to rounding.
+ * 
+ * A Normalizer keeps scratch space, use one instance per thread.
+ */
+public final class Normalizer {
+	static final int VARIANTS = Normalization.values().length;
+	private static final int AAS = AAModel.AAs.length;
+	// a model takes about a microsecond and every part allocates its own
+	// Normalizer and scratch arrays, so a part only pays off at some hundred
+	private static final int BATCH = 256;
+	
+	// sums of the rates left of and below the diagonal for every amino acid
+	private final double[] low = new double[AAS], up = new double[AAS];
+	// the row sums as scaleOcc uses them
+	private final double[] occ = new double[AAS];
+	private double max;
+	
+	/**
+	 * normalizes all models in parallel
+	 * 
+	 * @param models
+	 * @param n
+	 * @return the packed normalized rates of all models, model i at i * RATES
+	 */
+	public static double[] normalize(AAModel[] models, Normalization n) {
+		double[] out = new double[models.length * AAModel.RATES];
+		Parallel.forEach(Parallel.POOL, 0, models.length, BATCH, new Batch(models, null, n, out, 0));
+		return out;
+	}
+	
+	/**
+	 * normalizes the models from to to of a library in parallel, the rates are
+	 * read straight from the mapping
+	 * 
+	 * @param lib
+	 * @param from
+	 * @param to
+	 * @param n
+	 * @param out receives model i at off + (i - from) * RATES
+	 * @param off
+	 */
+	public static void normalize(ModelLibrary lib, int from, int to, Normalization n, double[] out, int off) {
+		Parallel.forEach(Parallel.POOL, from, to, BATCH, new Batch(null, lib, n, out, off - from * AAModel.RATES));
+	}
+	
+	public static double[] normalize(ModelLibrary lib, Normalization n) {
+		double[] out = new double[lib.size() * AAModel.RATES];
+		normalize(lib, 0, lib.size(), n, out, 0);
+		return out;
+	}
+	
+	/**
+	 * normalizes one model, out[n.ordinal()] receives the rates normalized by
+	 * n at off
+	 * 
+	 * @param q packed rates starting at qOff
+	 * @param qOff
+	 * @param f frequencies starting at fOff
+	 * @param fOff
+	 * @param out
+	 * @param off
+	 */
+	void normalizeAll(double[] q, int qOff, double[] f, int fOff, double[][] out, int off) {
+		rowSums(q, qOff);
+		
+		double sMax = AAModel.AA_SCALE / max;
+		double sOne = Normalization.ONE.scale * one(f, fOff);
+		double sOneF = Normalization.ONE_F_LESS.scale * oneFLess();
+		double cOcc = Normalization.OCC.scale;
+		double[] none = out[Normalization.NONE.ordinal()], byMax = out[Normalization.MAX.ordinal()];
+		double[] byOcc = out[Normalization.OCC.ordinal()], byOne = out[Normalization.ONE.ordinal()];
+		double[] byOneF = out[Normalization.ONE_F_LESS.ordinal()];
+		for(int i = 0, k = 0; i < AAS - 1; i++)
+			for(int j = i + 1; j < AAS; j++, k++) {
+				double v = q[qOff + k];
+				none[off + k] = v;
+				byMax[off + k] = v * sMax;
+				byOcc[off + k] = cOcc * v / (occ[i] + occ[j] - v);
+				byOne[off + k] = v * sOne;
+				byOneF[off + k] = v * sOneF;
+			}
+	}
+	
+	/**
+	 * normalizes one model by n, out may be q itself
+	 */
+	void normalize(Normalization n, double[] q, int qOff, double[] f, int fOff, double[] out, int off) {
+		switch(n) {
+		case NONE:
+			System.arraycopy(q, qOff, out, off, AAModel.RATES);
+			break;
+		case MAX:
+			rowSums(q, qOff);
+			scale(q, qOff, AAModel.AA_SCALE / max, out, off);
+			break;
+		case OCC:
+			scaleOcc(q, qOff, n.scale, out, off);
+			break;
+		case ONE:
+			rowSums(q, qOff);
+			scale(q, qOff, n.scale * one(f, fOff), out, off);
+			break;
+		case ONE_F_LESS:
+			rowSums(q, qOff);
+			scale(q, qOff, n.scale * oneFLess(), out, off);
+			break;
+		}
+	}
+	
+	/**
+	 * c * q_ij / (s_i + s_j - q_ij) where s_i is the sum of all rates of amino
+	 * acid i, except the one to amino acid i - 1, as in AAModel.scaleOcc().
+	 * out may be q itself.
+	 */
+	void scaleOcc(double[] q, int qOff, double c, double[] out, int off) {
+		rowSums(q, qOff);
+		for(int i = 0, k = 0; i < AAS - 1; i++)
+			for(int j = i + 1; j < AAS; j++, k++) {
+				double v = q[qOff + k];
+				out[off + k] = c * v / (occ[i] + occ[j] - v);
+			}
+	}
+	
+	private static void scale(double[] q, int qOff, double s, double[] out, int off) {
+		for(int k = 0; k < AAModel.RATES; k++)
+			out[off + k] = q[qOff + k] * s;
+	}
+	
+	// fills low, up and occ and finds the maximum rate
+	private void rowSums(double[] q, int qOff) {
+		max = 0;
+		for(int i = 0; i < AAS; i++)
+			low[i] = up[i] = 0;
+		for(int i = 0, k = qOff; i < AAS - 1; i++)
+			for(int j = i + 1; j < AAS; j++, k++) {
+				double v = q[k];
+				up[i] += v;
+				low[j] += v;
+				if(v > max)
+					max = v;
+			}
+		for(int i = 0; i < AAS; i++)
+			occ[i] = low[i] + up[i] - (i > 0 ? q[qOff + AAModel.index(i - 1, i)] : 0);
+	}
+	
+	// sum of f_i / q_ii, needs rowSums()
+	private double one(double[] f, int fOff) {
+		double s = 0;
+		for(int i = 0; i < AAS; i++)
+			s += (1 / (low[i] + up[i])) * f[fOff + i];
+		return s;
+	}
+	
+	private double oneFLess() {
+		double s = 0;
+		for(int i = 0; i < AAS; i++)
+			s += 1 / (low[i] + up[i]);
+		return s;
+	}
+	
+	private static final class Batch implements Parallel.Range {
+		// either the models or a library
+		private final AAModel[] models;
+		private final ModelLibrary lib;
+		private final Normalization n;
+		// model i goes to out at base + i * RATES
+		private final double[] out;
+		private final int base;
+		
+		Batch(AAModel[] models, ModelLibrary lib, Normalization n, double[] out, int base) {
+			this.models = models;
+			this.lib = lib;
+			this.n = n;
+			this.out = out;
+			this.base = base;
+		}
+		
+		@Override
+		public void run(int from, int to) {
+			Normalizer norm = new Normalizer();
+			double[] q = new double[AAModel.RATES], f = new double[AAS];
+			for(int i = from; i < to; i++) {
+				if(models != null) {
+					norm.normalize(n, models[i].rates(), 0, models[i].frequencies(), 0, out, base + i * AAModel.RATES);
+					continue;
+				}
+				lib.rates(i).get(q);
+				DoubleBuffer fb = lib.frequencies(i);
+				fb.get(f);
+				norm.normalize(n, q, 0, f, 0, out, base + i * AAModel.RATES);
+			}
+		}
+	}
+}
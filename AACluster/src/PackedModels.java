@@ -0,0 +1,98 @@
+/**
+ * A set of models in packed form: the rates of all models in one array,
+ * model i at i * RATES, the frequencies likewise at i * FREQS. Batch
+ * distance computations run over this layout.
+ */
+public final class PackedModels {
+	public static final int FREQS = AAModel.AAs.length;
+	
+	private final String[] names;
+	private final double[] rates, freqs;
+	
+	/**
+	 * wraps the given arrays, they are not copied
+	 * 
+	 * @param names
+	 * @param rates
+	 * @param freqs
+	 */
+	public PackedModels(String[] names, double[] rates, double[] freqs) {
+		if(rates.length != names.length * AAModel.RATES || freqs.length != names.length * FREQS)
+			throw new IllegalArgumentException("expected " + names.length + " models");
+		this.names = names;
+		this.rates = rates;
+		this.freqs = freqs;
+	}
+	
+	public static PackedModels of(AAModel[] models) {
+		String[] names = new String[models.length];
+		double[] rates = new double[models.length * AAModel.RATES];
+		double[] freqs = new double[models.length * FREQS];
+		for(int i = 0; i < models.length; i++) {
+			names[i] = models[i].name;
+			models[i].getRates(rates, i * AAModel.RATES);
+			models[i].getFrequencies(freqs, i * FREQS);
+		}
+		return new PackedModels(names, rates, freqs);
+	}
+	
+	/**
+	 * copies the models from to to of a library to the heap
+	 * 
+	 * @param lib
+	 * @param from
+	 * @param to
+	 * @return
+	 */
+	public static PackedModels of(ModelLibrary lib, int from, int to) {
+		int n = to - from;
+		String[] names = new String[n];
+		double[] rates = new double[n * AAModel.RATES];
+		double[] freqs = new double[n * FREQS];
+		for(int i = 0; i < n; i++) {
+			names[i] = lib.name(from + i);
+			lib.rates(from + i).get(rates, i * AAModel.RATES, AAModel.RATES);
+			lib.frequencies(from + i).get(freqs, i * FREQS, FREQS);
+		}
+		return new PackedModels(names, rates, freqs);
+	}
+	
+	/**
+	 * the same models with other rates, e.g. a normalized variant
+	 * 
+	 * @param rates
+	 * @return
+	 */
+	public PackedModels withRates(double[] rates) {
+		return new PackedModels(names, rates, freqs);
+	}
+	
+	public int size() {
+		return names.length;
+	}
+	
+	public String name(int i) {
+		return names[i];
+	}
+	
+	/**
+	 * the packed rates, callers must not modify them
+	 * 
+	 * @return
+	 */
+	public double[] rates() {
+		return rates;
+	}
+	
+	public double[] frequencies() {
+		return freqs;
+	}
+	
+	public AAModel get(int i) {
+		double[] q = new double[AAModel.RATES];
+		double[] f = new double[FREQS];
+		System.arraycopy(rates, i * AAModel.RATES, q, 0, q.length);
+		System.arraycopy(freqs, i * FREQS, f, 0, f.length);
+		return new AAModel(names[i], q, f);
+	}
+}
@@ -0,0 +1,124 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * the fork join pool the parallel parts of AACluster share, its workers are
+ * daemon threads, and the one way they split their work: a range of indices
+ * is halved until a part holds at most the threshold of the caller, the
+ * parts run as tasks of the pool
+ */
+final class Parallel {
+	static final ForkJoinPool POOL = new ForkJoinPool();
+	
+	private Parallel() {
+	}
+	
+	// the work on the indices from to to
+	interface Range {
+		void run(int from, int to);
+	}
+	
+	// the result of the indices from to to, and that of two adjacent ranges,
+	// left before right
+	interface Reduction<T> {
+		T run(int from, int to);
+		
+		T combine(T left, T right);
+	}
+	
+	/**
+	 * runs body on parts of at most threshold indices of from to to and
+	 * waits for all of them
+	 *
+	 * @param pool
+	 * @param from
+	 * @param to
+	 * @param threshold at least 1
+	 * @param body
+	 */
+	static void forEach(ForkJoinPool pool, int from, int to, int threshold, Range body) {
+		pool.invoke(task(from, to, threshold, body));
+	}
+	
+	/**
+	 * the task forEach() runs, for callers that start it without waiting
+	 *
+	 * @param from
+	 * @param to
+	 * @param threshold at least 1
+	 * @param body
+	 * @return
+	 */
+	static ForkJoinTask<Void> task(int from, int to, int threshold, Range body) {
+		if(threshold < 1)
+			throw new IllegalArgumentException("threshold " + threshold);
+		return new Split(from, to, threshold, body);
+	}
+	
+	/**
+	 * the results of body on parts of at most threshold indices of from to
+	 * to, combined in index order
+	 *
+	 * @param pool
+	 * @param from
+	 * @param to
+	 * @param threshold at least 1
+	 * @param body
+	 * @return
+	 */
+	static <T> T reduce(ForkJoinPool pool, int from, int to, int threshold, Reduction<T> body) {
+		if(threshold < 1)
+			throw new IllegalArgumentException("threshold " + threshold);
+		return pool.invoke(new Reduce<T>(from, to, threshold, body));
+	}
+	
+	private static final class Split extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final int from, to, threshold;
+		private final Range body;
+		
+		Split(int from, int to, int threshold, Range body) {
+			this.from = from;
+			this.to = to;
+			this.threshold = threshold;
+			this.body = body;
+		}
+		
+		@Override
+		protected void compute() {
+			if(to - from > threshold) {
+				int mid = (from + to) >>> 1;
+				invokeAll(new Split(from, mid, threshold, body), new Split(mid, to, threshold, body));
+				return;
+			}
+			body.run(from, to);
+		}
+	}
+	
+	private static final class Reduce<T> extends RecursiveTask<T> {
+		private static final long serialVersionUID = 1L;
+		private final int from, to, threshold;
+		private final Reduction<T> body;
+		
+		Reduce(int from, int to, int threshold, Reduction<T> body) {
+			this.from = from;
+			this.to = to;
+			this.threshold = threshold;
+			this.body = body;
+		}
+		
+		@Override
+		protected T compute() {
+			if(to - from > threshold) {
+				int mid = (from + to) >>> 1;
+				Reduce<T> right = new Reduce<T>(mid, to, threshold, body);
+				right.fork();
+				T left = new Reduce<T>(from, mid, threshold, body).compute();
+				return body.combine(left, right.join());
+			}
+			return body.run(from, to);
+		}
+	}
+}
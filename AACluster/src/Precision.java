@@ -0,0 +1,28 @@
+/**
+ * the storage precision of packed model rates and distance matrices
+ */
+public enum Precision {
+	DOUBLE(8),
+	// about 7 significant digits
+	FLOAT(4),
+	// quantized to steps of one per-set scale, max / 32767
+	INT16(2);
+	
+	// bytes per stored value
+	public final int bytes;
+	
+	private Precision(int bytes) {
+		this.bytes = bytes;
+	}
+	
+	/**
+	 * @param name case is ignored
+	 * @return
+	 */
+	public static Precision byName(String name) {
+		for(Precision p : values())
+			if(p.name().equalsIgnoreCase(name))
+				return p;
+		throw new IllegalArgumentException("unknown precision: " + name);
+	}
+}
@@ -0,0 +1,330 @@
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * An approximate nearest model index. Every model is sketched by a bit
+ * signature, bit b tells on which side of random hyperplane b through the
+ * centroid of the models it lies. Every 32 bit half word of the
+ * signatures orders the models once, models with a common prefix end up
+ * close in that order. A query finds its place in every order by binary
+ * search and reranks the models around it with the exact euclidean
+ * distance, O(bits / 32 * log(size()) + candidates) and nothing that grows
+ * with size() allocated.
+ * 
+ * The number of reranked candidates is the recall versus speed knob, with
+ * candidates >= size() the answer is exact. graph() finds the nearest
+ * models of all indexed models at once from the same orders.
+ */
+public final class ProjectionIndex {
+	// a sketch is bits dot products with the rates, cheap next to a graph()
+	// model, and libraries run to millions of models, so a task takes 1024
+	private static final int BATCH = 1024;
+	// a graph() model reranks hundreds of candidates, the cost varies with
+	// their overlap, small tasks of 256 balance that
+	private static final int LEAF = 256;
+	// models taken from the orders per reranked candidate, ranked by their
+	// hamming distance first
+	private static final int POOL = 16;
+	// nearest neighbors whose neighbors graph() reranks in its second round
+	private static final int REFINE = 8;
+	
+	private final PackedModels models;
+	private final int bits, words;
+	// the hyperplane normals, bits x RATES
+	private final double[] planes;
+	private final double[] center = new double[AAModel.RATES];
+	// the signatures, words per model
+	private final long[] sig;
+	// per order the half word above and the model below, sorted
+	private long[][] keys;
+	
+	private ProjectionIndex(PackedModels models, int bits, long seed) {
+		this.models = models;
+		this.bits = bits;
+		this.words = bits / 64;
+		this.planes = new double[bits * AAModel.RATES];
+		this.sig = new long[models.size() * words];
+		
+		Random r = new Random(seed);
+		for(int i = 0; i < planes.length; i++)
+			planes[i] = r.nextGaussian();
+		double[] rates = models.rates();
+		for(int i = 0; i < models.size(); i++)
+			for(int k = 0; k < AAModel.RATES; k++)
+				center[k] += rates[i * AAModel.RATES + k];
+		for(int k = 0; k < AAModel.RATES; k++)
+			center[k] /= Math.max(models.size(), 1);
+	}
+	
+	/**
+	 * sketches all models in parallel
+	 * 
+	 * @param models
+	 * @param bits signature length, a positive multiple of 64
+	 * @param seed the hyperplanes only depend on it
+	 * @return
+	 */
+	public static ProjectionIndex build(PackedModels models, int bits, long seed) {
+		if(bits <= 0 || bits % 64 != 0)
+			throw new IllegalArgumentException("bits must be a positive multiple of 64, got " + bits);
+		ProjectionIndex idx = new ProjectionIndex(models, bits, seed);
+		Parallel.forEach(Parallel.POOL, 0, models.size(), BATCH, idx.new Sketch());
+		idx.sort();
+		return idx;
+	}
+	
+	private void sort() {
+		int n = models.size();
+		keys = new long[2 * words][n];
+		for(int o = 0; o < keys.length; o++) {
+			// the model index breaks ties
+			for(int i = 0; i < n; i++)
+				keys[o][i] = half(sig, i * words, o) | i;
+			Arrays.sort(keys[o]);
+		}
+	}
+	
+	// half word o of the signature at off, in the upper half
+	private static long half(long[] sig, int off, int o) {
+		return (sig[off + o / 2] >>> (32 * (o % 2))) << 32;
+	}
+	
+	public PackedModels models() {
+		return models;
+	}
+	
+	public int bits() {
+		return bits;
+	}
+	
+	public Neighbors nearest(AAModel query, int k, int candidates) {
+		return nearest(query.rates(), k, candidates);
+	}
+	
+	/**
+	 * the approximate k nearest models
+	 * 
+	 * @param query packed rates
+	 * @param k
+	 * @param candidates about how many models next to the query in the
+	 * orders are reranked exactly, at least k, all of them from size() on
+	 * @return indices into models()
+	 */
+	public Neighbors nearest(double[] query, int k, int candidates) {
+		int n = models.size();
+		if(candidates >= n)
+			return LibraryScan.nearest(query, models, k);
+		long[] q = new long[words];
+		sketch(query, 0, q, 0);
+		
+		// the models next to the query in every order
+		candidates = Math.max(candidates, k);
+		int window = Math.max(1, (POOL * candidates + 2 * keys.length - 1) / (2 * keys.length));
+		int[] cand = new int[keys.length * 2 * window];
+		int c = 0;
+		for(int o = 0; o < keys.length; o++) {
+			int p = Arrays.binarySearch(keys[o], half(q, 0, o));
+			if(p < 0)
+				p = -p - 1;
+			for(int t = Math.max(0, p - window), end = Math.min(n, p + window); t < end; t++)
+				cand[c++] = (int) keys[o][t];
+		}
+		// once each
+		Arrays.sort(cand, 0, c);
+		int u = 0;
+		for(int t = 0; t < c; t++)
+			if(u == 0 || cand[t] != cand[u - 1])
+				cand[u++] = cand[t];
+		
+		// the closest signatures of those, ties in order of the models
+		if(u > candidates) {
+			long[] ham = new long[u];
+			for(int t = 0; t < u; t++) {
+				long h = 0;
+				for(int w = 0; w < words; w++)
+					h += Long.bitCount(q[w] ^ sig[cand[t] * words + w]);
+				ham[t] = h << 32 | cand[t];
+			}
+			Arrays.sort(ham);
+			for(int t = 0; t < candidates; t++)
+				cand[t] = (int) ham[t];
+			u = candidates;
+		}
+		Neighbors nn = Neighbors.nearest(k);
+		LibraryScan.scan(query, models.rates(), cand, 0, u, nn, -1);
+		return nn.sort();
+	}
+	
+	// the signature of the rates at off into dst at dOff
+	private void sketch(double[] rates, int off, long[] dst, int dOff) {
+		for(int b = 0; b < bits; b++) {
+			double s = 0;
+			for(int k = 0, p = b * AAModel.RATES; k < AAModel.RATES; k++, p++)
+				s += (rates[off + k] - center[k]) * planes[p];
+			if(s > 0)
+				dst[dOff + b / 64] |= 1L << (b % 64);
+		}
+	}
+	
+	/**
+	 * the approximate k nearest models of every indexed model, without the
+	 * model itself. A model reranks the models up to window places before
+	 * and after it in every order. A second round, one step of NN-descent,
+	 * reranks the neighbors of the REFINE nearest neighbors found. This
+	 * takes O(bits / 32 * window + REFINE * k) distances per model, nothing
+	 * quadratic in size().
+	 * 
+	 * @param k less than size()
+	 * @param window at least k / 2
+	 * @param pool
+	 * @return the neighbors of model i in [i], they only depend on the seed
+	 */
+	public Neighbors[] graph(int k, int window, ForkJoinPool pool) {
+		int n = models.size();
+		if(k >= n || 2 * window < k)
+			throw new IllegalArgumentException(k + " neighbors within " + window + " places of " + n + " models");
+		int[][] order = new int[keys.length][n], rank = new int[keys.length][n];
+		for(int o = 0; o < keys.length; o++)
+			for(int p = 0; p < n; p++) {
+				order[o][p] = (int) keys[o][p];
+				rank[o][order[o][p]] = p;
+			}
+		Neighbors[] first = new Neighbors[n], second = new Neighbors[n];
+		Parallel.forEach(pool, 0, n, LEAF, new Graph(order, rank, k, window, null, first));
+		Parallel.forEach(pool, 0, n, LEAF, new Graph(order, rank, k, window, first, second));
+		return second;
+	}
+	
+	// the neighbors of the models from to to, from the orders or the
+	// neighbors of the neighbors in last
+	private final class Graph implements Parallel.Range {
+		private final int[][] order, rank;
+		private final int k, window;
+		private final Neighbors[] last, out;
+		
+		Graph(int[][] order, int[][] rank, int k, int window, Neighbors[] last, Neighbors[] out) {
+			this.order = order;
+			this.rank = rank;
+			this.k = k;
+			this.window = window;
+			this.last = last;
+			this.out = out;
+		}
+		
+		@Override
+		public void run(int from, int to) {
+			int n = models.size();
+			double[] rates = models.rates();
+			int[] cand = new int[last == null ? order.length * (2 * window + 1) : (REFINE + 1) * k];
+			for(int i = from; i < to; i++) {
+				int c = 0;
+				if(last == null) {
+					for(int o = 0; o < order.length; o++)
+						for(int p = Math.max(0, rank[o][i] - window), end = Math.min(n, rank[o][i] + window + 1); p < end; p++)
+							cand[c++] = order[o][p];
+				} else {
+					Neighbors nn = last[i];
+					for(int t = 0; t < nn.size(); t++)
+						cand[c++] = nn.index(t);
+					for(int t = 0; t < Math.min(REFINE, nn.size()); t++) {
+						Neighbors mm = last[nn.index(t)];
+						for(int u = 0; u < mm.size(); u++)
+							cand[c++] = mm.index(u);
+					}
+				}
+				// once each and not the model itself
+				Arrays.sort(cand, 0, c);
+				int u = 0;
+				for(int t = 0; t < c; t++)
+					if(cand[t] != i && (u == 0 || cand[t] != cand[u - 1]))
+						cand[u++] = cand[t];
+				double[] q = Arrays.copyOfRange(rates, i * AAModel.RATES, (i + 1) * AAModel.RATES);
+				Neighbors nn = Neighbors.nearest(k);
+				LibraryScan.scan(q, rates, cand, 0, u, nn, -1);
+				out[i] = nn.sort();
+			}
+		}
+	}
+	
+	/**
+	 * compares the index with exact scans. The queries are random models of
+	 * the set that are held out of the index, a query that is indexed itself
+	 * would always find its own copy at distance 0.
+	 * 
+	 * @param models
+	 * @param k
+	 * @param queries
+	 * @param seed
+	 * @return a table of recall@k and time per query for several signature
+	 * lengths and numbers of reranked candidates
+	 */
+	public static String benchmark(PackedModels models, int k, int queries, long seed) {
+		int n = models.size();
+		if(n < 2)
+			throw new IllegalArgumentException("the benchmark needs at least 2 models, got " + n);
+		queries = Math.min(queries, n - 1);
+		// a partial shuffle, the first queries models are held out
+		Random r = new Random(seed);
+		int[] perm = new int[n];
+		for(int i = 0; i < n; i++)
+			perm[i] = i;
+		for(int i = 0; i < queries; i++) {
+			int j = i + r.nextInt(n - i);
+			int x = perm[i];
+			perm[i] = perm[j];
+			perm[j] = x;
+		}
+		double[][] q = new double[queries][];
+		for(int i = 0; i < queries; i++)
+			q[i] = Arrays.copyOfRange(models.rates(), perm[i] * AAModel.RATES, (perm[i] + 1) * AAModel.RATES);
+		int size = n - queries;
+		String[] names = new String[size];
+		double[] rates = new double[size * AAModel.RATES], freqs = new double[size * PackedModels.FREQS];
+		for(int i = 0; i < size; i++) {
+			int m = perm[queries + i];
+			names[i] = models.name(m);
+			System.arraycopy(models.rates(), m * AAModel.RATES, rates, i * AAModel.RATES, AAModel.RATES);
+			System.arraycopy(models.frequencies(), m * PackedModels.FREQS, freqs, i * PackedModels.FREQS, PackedModels.FREQS);
+		}
+		PackedModels indexed = new PackedModels(names, rates, freqs);
+		
+		Neighbors[] exact = new Neighbors[queries];
+		long t = System.nanoTime();
+		for(int i = 0; i < queries; i++)
+			exact[i] = LibraryScan.nearest(q[i], indexed, k);
+		double scan = (System.nanoTime() - t) / 1e3 / queries;
+		
+		StringBuilder s = new StringBuilder();
+		s.append(String.format("%d models, %d held out queries, k = %d, exact scan %.1f us/query%n", size, queries, k, scan));
+		s.append(String.format("%6s %10s %10s %10s%n", "bits", "candidates", "recall", "us/query"));
+		for(int bits = 64; bits <= 256; bits *= 2) {
+			ProjectionIndex idx = build(indexed, bits, seed);
+			for(int c = k; c <= 64 * k && c <= size; c *= 4) {
+				Neighbors[] approx = new Neighbors[queries];
+				t = System.nanoTime();
+				for(int i = 0; i < queries; i++)
+					approx[i] = idx.nearest(q[i], k, c);
+				double us = (System.nanoTime() - t) / 1e3 / queries;
+				int hits = 0;
+				for(int i = 0; i < queries; i++)
+					for(int x = 0; x < approx[i].size(); x++)
+						for(int y = 0; y < exact[i].size(); y++)
+							if(approx[i].index(x) == exact[i].index(y)) {
+								hits++;
+								break;
+							}
+				s.append(String.format("%6d %10d %10.3f %10.1f%n", bits, c, (double) hits / (queries * k), us));
+			}
+		}
+		return s.toString();
+	}
+	
+	private final class Sketch implements Parallel.Range {
+		@Override
+		public void run(int from, int to) {
+			for(int i = from; i < to; i++)
+				sketch(models.rates(), i * AAModel.RATES, sig, i * words);
+		}
+	}
+}
@@ -0,0 +1,623 @@
+import java.lang.reflect.Array;
+import java.util.Arrays;
+
+/**
+ * A symmetric matrix with a zero diagonal, as all model distance matrices
+ * are. Only the strict upper triangle is stored, packed column by column:
+ * (i,j) with i < j is entry j * (j - 1) / 2 + i (see index()). Positions do
+ * not depend on the size, so a matrix grows by appending columns.
+ *
+ * Entries are addressed with longs and kept in chunks of 2^CHUNK_BITS, so
+ * more than 65k rows fit. The storage is double, float or int16 (see
+ * Precision), the bulk operations work on the primitive chunks directly and
+ * visit the entries in storage order.
+ */
+public abstract class SymmetricMatrix {
+	// entries per chunk, 16M doubles are 128MB
+	static final int CHUNK_BITS = 24;
+	static final int CHUNK = 1 << CHUNK_BITS;
+	static final int MASK = CHUNK - 1;
+	
+	int n;
+	
+	SymmetricMatrix(int n) {
+		if(n < 0)
+			throw new IllegalArgumentException("negative size " + n);
+		this.n = n;
+	}
+	
+	public static SymmetricMatrix ofDoubles(int n) {
+		return new Doubles(n);
+	}
+	
+	/**
+	 * a DOUBLE matrix on the heap that can grow and shrink, as
+	 * ModelDistanceMatrix needs
+	 *
+	 * @param n
+	 * @return
+	 */
+	static Heap growable(int n) {
+		return new Doubles(n);
+	}
+	
+	/**
+	 * a matrix with float storage, half the memory at about 7 significant
+	 * digits
+	 *
+	 * @param n
+	 * @return
+	 */
+	public static SymmetricMatrix ofFloats(int n) {
+		return new Floats(n);
+	}
+	
+	/**
+	 * a matrix of int16 steps of max / 32767, a quarter of the memory. The
+	 * step is the only scale of the matrix, so scale() is O(1).
+	 *
+	 * @param n
+	 * @param max the largest absolute value that will be set
+	 * @return
+	 */
+	public static SymmetricMatrix quantized(int n, double max) {
+		return new Shorts(n, max);
+	}
+	
+	/**
+	 * @param n
+	 * @param p
+	 * @param max the largest absolute value, only used for INT16
+	 * @return
+	 */
+	public static SymmetricMatrix of(int n, Precision p, double max) {
+		switch(p) {
+		case FLOAT:
+			return ofFloats(n);
+		case INT16:
+			return quantized(n, max);
+		default:
+			return ofDoubles(n);
+		}
+	}
+	
+	/**
+	 * position of (i,j), i < j, in the packed triangle
+	 *
+	 * @param i
+	 * @param j
+	 * @return
+	 */
+	public static long index(int i, int j) {
+		return (long) j * (j - 1) / 2 + i;
+	}
+	
+	/**
+	 * number of stored entries of a matrix with n rows
+	 *
+	 * @param n
+	 * @return
+	 */
+	public static long entries(int n) {
+		return index(0, n);
+	}
+	
+	public int size() {
+		return n;
+	}
+	
+	public long entries() {
+		return entries(n);
+	}
+	
+	public abstract Precision precision();
+	
+	/**
+	 * entry k in storage order
+	 *
+	 * @param k
+	 * @return
+	 */
+	public abstract double get(long k);
+	
+	public abstract void set(long k, double d);
+	
+	public double get(int i, int j) {
+		check(i);
+		check(j);
+		if(i == j)
+			return 0;
+		return get(i < j ? index(i, j) : index(j, i));
+	}
+	
+	public void set(int i, int j, double d) {
+		check(i);
+		check(j);
+		if(i == j)
+			throw new IllegalArgumentException("the diagonal is always 0");
+		set(i < j ? index(i, j) : index(j, i), d);
+	}
+	
+	/**
+	 * the largest entry off the diagonal, -Infinity below two rows
+	 *
+	 * @return
+	 */
+	public abstract double max();
+	
+	/**
+	 * the smallest entry off the diagonal, Infinity below two rows
+	 *
+	 * @return
+	 */
+	public abstract double min();
+	
+	/**
+	 * multiplies all entries with s
+	 *
+	 * @param s
+	 */
+	public abstract void scale(double s);
+	
+	/**
+	 * row i of the full matrix, diagonal included
+	 *
+	 * @param i
+	 * @param dst at least size() long, null for a new array
+	 * @return dst
+	 */
+	public double[] row(int i, double[] dst) {
+		check(i);
+		if(dst == null)
+			dst = new double[n];
+		long k = index(0, i);
+		for(int j = 0; j < i; j++)
+			dst[j] = get(k++);
+		dst[i] = 0;
+		for(int j = i + 1; j < n; j++)
+			dst[j] = get(index(i, j));
+		return dst;
+	}
+	
+	/**
+	 * rows from to to of the full matrix. The part left of the diagonal is
+	 * the columns from to to, read in storage order, the part right of it is
+	 * gathered from a stretch of every later column. Reading all rows block by
+	 * block thus revisits the columns right of each block once per block, for
+	 * a MappedMatrix larger than memory that is not a sequential read
+	 *
+	 * @param from
+	 * @param to
+	 * @param dst to - from rows of at least size() entries
+	 */
+	public void rows(int from, int to, double[][] dst) {
+		if(from < 0 || to > n || from > to)
+			throw new IndexOutOfBoundsException("rows " + from + " to " + to + " of " + n);
+		for(int j = from; j < n; j++) {
+			long k = index(0, j);
+			if(j < to) {
+				for(int i = 0; i < j; i++, k++) {
+					double d = get(k);
+					dst[j - from][i] = d;
+					if(i >= from)
+						dst[i - from][j] = d;
+				}
+				dst[j - from][j] = 0;
+			} else
+				for(int i = from; i < to; i++)
+					dst[i - from][j] = get(k + i);
+		}
+	}
+	
+	/**
+	 * calls v for every (i,j), i < j, in storage order
+	 *
+	 * @param v
+	 */
+	public void forEach(Visitor v) {
+		long k = 0;
+		for(int j = 1; j < n; j++)
+			for(int i = 0; i < j; i++)
+				v.visit(i, j, get(k++));
+	}
+	
+	/**
+	 * a copy of the same precision on the heap
+	 *
+	 * @return
+	 */
+	public abstract SymmetricMatrix copy();
+	
+	/**
+	 * the full matrix, only for small n
+	 *
+	 * @return
+	 */
+	public double[][] toArray() {
+		double[][] d = new double[n][n];
+		long k = 0;
+		for(int j = 1; j < n; j++)
+			for(int i = 0; i < j; i++)
+				d[i][j] = d[j][i] = get(k++);
+		return d;
+	}
+	
+	// the INT16 step, entries are multiples of it
+	double step() {
+		return 1;
+	}
+	
+	private void check(int i) {
+		if(i < 0 || i >= n)
+			throw new IndexOutOfBoundsException("row " + i + " of " + n);
+	}
+	
+	// chunks needed for e entries
+	static int chunks(long e) {
+		return (int) Math.max(1, (e + MASK) >>> CHUNK_BITS);
+	}
+	
+	// length of chunk c of chunks for e entries
+	static int length(long e, int c, int chunks) {
+		return c < chunks - 1 ? CHUNK : (int) (e - ((long) c << CHUNK_BITS));
+	}
+	
+	public interface Visitor {
+		void visit(int i, int j, double d);
+	}
+	
+	// the storage in primitive chunks on the heap, only it can be resized
+	abstract static class Heap extends SymmetricMatrix {
+		Heap(int n) {
+			super(n);
+		}
+		
+		@Override
+		public SymmetricMatrix copy() {
+			Heap m = empty(n);
+			long e = entries();
+			for(int c = 0, cs = chunks(e); c < cs; c++)
+				System.arraycopy(chunk(c), 0, m.chunk(c), 0, length(e, c, cs));
+			return m;
+		}
+		
+		/**
+		 * changes the number of rows, entries of new rows are undefined
+		 *
+		 * @param n
+		 */
+		void resize(int n) {
+			long e = entries(n);
+			int cs = chunks(e);
+			ensureChunks(cs);
+			for(int c = 0; c < cs; c++) {
+				int need = length(e, c, cs);
+				Object d = chunk(c);
+				int len = d == null ? 0 : Array.getLength(d);
+				if(len < need) {
+					Object g = newChunk(Math.min(CHUNK, Math.max(need, len + (len >> 1))));
+					if(d != null)
+						System.arraycopy(d, 0, g, 0, len);
+					setChunk(c, g);
+				}
+			}
+			this.n = n;
+		}
+		
+		/**
+		 * moves len entries from from down to to < from
+		 *
+		 * @param from
+		 * @param to
+		 * @param len
+		 */
+		void move(long from, long to, long len) {
+			while(len > 0) {
+				int fo = (int) (from & MASK), to0 = (int) (to & MASK);
+				int l = (int) Math.min(len, CHUNK - Math.max(fo, to0));
+				System.arraycopy(chunk((int) (from >>> CHUNK_BITS)), fo, chunk((int) (to >>> CHUNK_BITS)), to0, l);
+				from += l;
+				to += l;
+				len -= l;
+			}
+		}
+		
+		// a matrix of the same kind and scale
+		abstract Heap empty(int n);
+		
+		// the primitive array of chunk c, null if not yet allocated
+		abstract Object chunk(int c);
+		
+		abstract void setChunk(int c, Object chunk);
+		
+		abstract void ensureChunks(int chunks);
+		
+		abstract Object newChunk(int len);
+	}
+	
+	private static final class Doubles extends Heap {
+		private double[][] data;
+		
+		Doubles(int n) {
+			super(n);
+			long e = entries(n);
+			data = new double[chunks(e)][];
+			for(int c = 0; c < data.length; c++)
+				data[c] = new double[length(e, c, data.length)];
+		}
+		
+		@Override
+		public Precision precision() {
+			return Precision.DOUBLE;
+		}
+		
+		@Override
+		public double get(long k) {
+			return data[(int) (k >>> CHUNK_BITS)][(int) (k & MASK)];
+		}
+		
+		@Override
+		public void set(long k, double d) {
+			data[(int) (k >>> CHUNK_BITS)][(int) (k & MASK)] = d;
+		}
+		
+		@Override
+		public double max() {
+			double max = Double.NEGATIVE_INFINITY;
+			long e = entries();
+			for(int c = 0, cs = chunks(e); c < cs; c++) {
+				double[] d = data[c];
+				for(int k = 0, l = length(e, c, cs); k < l; k++)
+					if(d[k] > max)
+						max = d[k];
+			}
+			return max;
+		}
+		
+		@Override
+		public double min() {
+			double min = Double.POSITIVE_INFINITY;
+			long e = entries();
+			for(int c = 0, cs = chunks(e); c < cs; c++) {
+				double[] d = data[c];
+				for(int k = 0, l = length(e, c, cs); k < l; k++)
+					if(d[k] < min)
+						min = d[k];
+			}
+			return min;
+		}
+		
+		@Override
+		public void scale(double s) {
+			long e = entries();
+			for(int c = 0, cs = chunks(e); c < cs; c++) {
+				double[] d = data[c];
+				for(int k = 0, l = length(e, c, cs); k < l; k++)
+					d[k] *= s;
+			}
+		}
+		
+		@Override
+		Heap empty(int n) {
+			return new Doubles(n);
+		}
+		
+		@Override
+		Object chunk(int c) {
+			return data[c];
+		}
+		
+		@Override
+		void setChunk(int c, Object chunk) {
+			data[c] = (double[]) chunk;
+		}
+		
+		@Override
+		void ensureChunks(int chunks) {
+			if(chunks > data.length)
+				data = Arrays.copyOf(data, chunks);
+		}
+		
+		@Override
+		Object newChunk(int len) {
+			return new double[len];
+		}
+	}
+	
+	private static final class Floats extends Heap {
+		private float[][] data;
+		
+		Floats(int n) {
+			super(n);
+			long e = entries(n);
+			data = new float[chunks(e)][];
+			for(int c = 0; c < data.length; c++)
+				data[c] = new float[length(e, c, data.length)];
+		}
+		
+		@Override
+		public Precision precision() {
+			return Precision.FLOAT;
+		}
+		
+		@Override
+		public double get(long k) {
+			return data[(int) (k >>> CHUNK_BITS)][(int) (k & MASK)];
+		}
+		
+		@Override
+		public void set(long k, double d) {
+			data[(int) (k >>> CHUNK_BITS)][(int) (k & MASK)] = (float) d;
+		}
+		
+		@Override
+		public double max() {
+			float max = Float.NEGATIVE_INFINITY;
+			long e = entries();
+			for(int c = 0, cs = chunks(e); c < cs; c++) {
+				float[] d = data[c];
+				for(int k = 0, l = length(e, c, cs); k < l; k++)
+					if(d[k] > max)
+						max = d[k];
+			}
+			return max;
+		}
+		
+		@Override
+		public double min() {
+			float min = Float.POSITIVE_INFINITY;
+			long e = entries();
+			for(int c = 0, cs = chunks(e); c < cs; c++) {
+				float[] d = data[c];
+				for(int k = 0, l = length(e, c, cs); k < l; k++)
+					if(d[k] < min)
+						min = d[k];
+			}
+			return min;
+		}
+		
+		@Override
+		public void scale(double s) {
+			long e = entries();
+			for(int c = 0, cs = chunks(e); c < cs; c++) {
+				float[] d = data[c];
+				for(int k = 0, l = length(e, c, cs); k < l; k++)
+					d[k] = (float) (d[k] * s);
+			}
+		}
+		
+		@Override
+		Heap empty(int n) {
+			return new Floats(n);
+		}
+		
+		@Override
+		Object chunk(int c) {
+			return data[c];
+		}
+		
+		@Override
+		void setChunk(int c, Object chunk) {
+			data[c] = (float[]) chunk;
+		}
+		
+		@Override
+		void ensureChunks(int chunks) {
+			if(chunks > data.length)
+				data = Arrays.copyOf(data, chunks);
+		}
+		
+		@Override
+		Object newChunk(int len) {
+			return new float[len];
+		}
+	}
+	
+	// entries are code * step, codes within +-LEVELS
+	private static final class Shorts extends Heap {
+		static final int LEVELS = Short.MAX_VALUE;
+		
+		private short[][] data;
+		private double step;
+		
+		Shorts(int n, double max) {
+			super(n);
+			if(!(max >= 0) || Double.isInfinite(max))
+				throw new IllegalArgumentException("no quantization range for max " + max);
+			this.step = max == 0 ? 1 : max / LEVELS;
+			long e = entries(n);
+			data = new short[chunks(e)][];
+			for(int c = 0; c < data.length; c++)
+				data[c] = new short[length(e, c, data.length)];
+		}
+		
+		@Override
+		public Precision precision() {
+			return Precision.INT16;
+		}
+		
+		@Override
+		public double get(long k) {
+			return data[(int) (k >>> CHUNK_BITS)][(int) (k & MASK)] * step;
+		}
+		
+		@Override
+		public void set(long k, double d) {
+			long code = Math.round(d / step);
+			if(code > LEVELS || code < -LEVELS)
+				throw new IllegalArgumentException(d + " is outside the quantized range " + LEVELS * Math.abs(step));
+			data[(int) (k >>> CHUNK_BITS)][(int) (k & MASK)] = (short) code;
+		}
+		
+		@Override
+		public double max() {
+			if(entries() == 0)
+				return Double.NEGATIVE_INFINITY;
+			int[] x = codes();
+			return step >= 0 ? x[1] * step : x[0] * step;
+		}
+		
+		@Override
+		public double min() {
+			if(entries() == 0)
+				return Double.POSITIVE_INFINITY;
+			int[] x = codes();
+			return step >= 0 ? x[0] * step : x[1] * step;
+		}
+		
+		// the smallest and the largest code
+		private int[] codes() {
+			int min = Short.MAX_VALUE, max = Short.MIN_VALUE;
+			long e = entries();
+			for(int c = 0, cs = chunks(e); c < cs; c++) {
+				short[] d = data[c];
+				for(int k = 0, l = length(e, c, cs); k < l; k++) {
+					if(d[k] < min)
+						min = d[k];
+					if(d[k] > max)
+						max = d[k];
+				}
+			}
+			return new int[] {min, max};
+		}
+		
+		@Override
+		double step() {
+			return step;
+		}
+		
+		// only the step changes
+		@Override
+		public void scale(double s) {
+			step *= s;
+		}
+		
+		@Override
+		Heap empty(int n) {
+			Shorts m = new Shorts(n, 0);
+			m.step = step;
+			return m;
+		}
+		
+		@Override
+		Object chunk(int c) {
+			return data[c];
+		}
+		
+		@Override
+		void setChunk(int c, Object chunk) {
+			data[c] = (short[]) chunk;
+		}
+		
+		@Override
+		void ensureChunks(int chunks) {
+			if(chunks > data.length)
+				data = Arrays.copyOf(data, chunks);
+		}
+		
+		@Override
+		Object newChunk(int len) {
+			return new short[len];
+		}
+	}
+}
@@ -0,0 +1,405 @@
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Barnes-Hut t-SNE (van der Maaten), a 2-D map of model sets far too large
+ * for MDS to stay readable. Models that are near in exchangeability space,
+ * the euclidean distance of AAModel.dist(), stay near in the map.
+ *
+ * The input affinities only cover the 3 * perplexity nearest models of
+ * every model, found by ProjectionIndex.graph() without comparing all
+ * pairs, so every step is O(n log n) and libraries of millions of models
+ * fit as long as their packed rates do. The attraction of the map
+ * follows those sparse affinities, the repulsion of all other points is
+ * approximated by the centers of mass of the cells of a quadtree over the
+ * map that look small enough from the point, THETA bounds cell width by
+ * distance. Both are computed for every point on its own in parallel, so
+ * the map only depends on the seed.
+ */
+public final class TSNE {
+	public static final double PERPLEXITY = 30;
+	public static final int ITERATIONS = 1000;
+	public static final double THETA = 0.5;
+	// the first iterations exaggerate the attraction to form the clusters
+	private static final int EXAGGERATED = 250;
+	private static final double EXAGGERATION = 12;
+	// signature bits of the index, 16 orders of the models
+	private static final int BITS = 512;
+	// coinciding points end up in one leaf at this depth
+	private static final int MAX_DEPTH = 48;
+	// a point costs a binary search for its affinities or a walk of the
+	// quadtree for its gradient, a few hundred points make a task worth it
+	// and a library of 20k models still splits into 128 parts
+	private static final int LEAF = 256;
+	
+	private final double perplexity;
+	private final int iterations;
+	private final long seed;
+	private final ForkJoinPool pool;
+	
+	public TSNE(long seed) {
+		this(PERPLEXITY, ITERATIONS, seed, Parallel.POOL);
+	}
+	
+	/**
+	 * @param perplexity the effective number of neighbors of every model
+	 * @param iterations of the gradient descent
+	 * @param seed of the index and the initial map
+	 * @param pool
+	 */
+	public TSNE(double perplexity, int iterations, long seed, ForkJoinPool pool) {
+		if(!(perplexity > 0))
+			throw new IllegalArgumentException("perplexity must be positive, got " + perplexity);
+		this.perplexity = perplexity;
+		this.iterations = iterations;
+		this.seed = seed;
+		this.pool = pool;
+	}
+	
+	public double[][] embed(AAModel[] models) {
+		return embed(PackedModels.of(models));
+	}
+	
+	/**
+	 * maps the models to the plane
+	 *
+	 * @param models
+	 * @return the coordinates of model i in [i]
+	 */
+	public double[][] embed(PackedModels models) {
+		int n = models.size();
+		double[][] x = new double[n][2];
+		if(n < 2)
+			return x;
+		int k = Math.min(n - 1, (int) Math.ceil(3 * perplexity));
+		int[] nbr = new int[n * k];
+		double[] p = new double[n * k];
+		Neighbors[] graph = ProjectionIndex.build(models, BITS, seed).graph(k, k, pool);
+		Parallel.forEach(pool, 0, n, LEAF, new Affinities(graph, Math.min(perplexity, k / 3.0), k, nbr, p));
+		
+		Embedding map = new Embedding(n);
+		map.symmetrize(nbr, p, k);
+		Random rnd = new Random(seed);
+		for(int i = 0; i < 2 * n; i++)
+			map.y[i] = 1e-4 * rnd.nextGaussian();
+		for(int it = 0; it < iterations; it++)
+			map.step(it < EXAGGERATED ? EXAGGERATION : 1, it < EXAGGERATED ? 0.5 : 0.8);
+		
+		for(int i = 0; i < n; i++) {
+			x[i][0] = map.y[2 * i];
+			x[i][1] = map.y[2 * i + 1];
+		}
+		return x;
+	}
+	
+	// the k nearest models of every model and the conditional affinities
+	// p(j|i) of the gaussian around i that has the perplexity
+	private static final class Affinities implements Parallel.Range {
+		private final Neighbors[] graph;
+		private final double perplexity;
+		private final int k;
+		private final int[] nbr;
+		private final double[] p;
+		
+		Affinities(Neighbors[] graph, double perplexity, int k, int[] nbr, double[] p) {
+			this.graph = graph;
+			this.perplexity = perplexity;
+			this.k = k;
+			this.nbr = nbr;
+			this.p = p;
+		}
+		
+		@Override
+		public void run(int from, int to) {
+			double[] d2 = new double[k];
+			for(int i = from; i < to; i++) {
+				Neighbors nn = graph[i];
+				for(int t = 0; t < k; t++) {
+					nbr[i * k + t] = nn.index(t);
+					d2[t] = nn.dist(t) * nn.dist(t);
+				}
+				calibrate(d2, i * k);
+			}
+		}
+		
+		// binary search of the precision of the gaussian, its entropy is
+		// log(perplexity)
+		private void calibrate(double[] d2, int off) {
+			double target = Math.log(perplexity);
+			double min = Double.POSITIVE_INFINITY;
+			for(double d : d2)
+				min = Math.min(min, d);
+			double beta = 1, lo = 0, hi = Double.POSITIVE_INFINITY, sum = 0;
+			for(int step = 0; step < 200; step++) {
+				sum = 0;
+				double e = 0;
+				for(int t = 0; t < k; t++) {
+					// relative to the nearest, the sum can not underflow
+					double w = Math.exp(-beta * (d2[t] - min));
+					p[off + t] = w;
+					sum += w;
+					e += w * (d2[t] - min);
+				}
+				double h = Math.log(sum) + beta * e / sum;
+				if(Math.abs(h - target) < 1e-5)
+					break;
+				if(h > target) {
+					lo = beta;
+					beta = hi == Double.POSITIVE_INFINITY ? 2 * beta : (beta + hi) / 2;
+				} else {
+					hi = beta;
+					beta = (lo + beta) / 2;
+				}
+			}
+			for(int t = 0; t < k; t++)
+				p[off + t] /= sum;
+		}
+	}
+	
+	// the sparse joint affinities and the map with its optimizer state
+	private final class Embedding {
+		final int n;
+		// rows of P, the entries of row i are rowStart[i] .. rowStart[i + 1]
+		int[] rowStart, col;
+		double[] val;
+		// x and y of every point, interleaved
+		final double[] y, update, gains, grad, attract, repulse, z;
+		// rebuilt over y in every step
+		final QuadTree tree;
+		
+		Embedding(int n) {
+			this.n = n;
+			y = new double[2 * n];
+			update = new double[2 * n];
+			gains = new double[2 * n];
+			Arrays.fill(gains, 1);
+			grad = new double[2 * n];
+			attract = new double[2 * n];
+			repulse = new double[2 * n];
+			z = new double[n];
+			tree = new QuadTree(n);
+		}
+		
+		// P = (p(j|i) + p(i|j)) / 2n, one entry for every pair that is a
+		// neighbor either way
+		void symmetrize(int[] nbr, double[] p, int k) {
+			// who has j as neighbor, in order of i
+			int[] revStart = new int[n + 1];
+			for(int e : nbr)
+				revStart[e + 1]++;
+			for(int i = 0; i < n; i++)
+				revStart[i + 1] += revStart[i];
+			int[] rev = new int[nbr.length], fill = Arrays.copyOf(revStart, n);
+			for(int e = 0; e < nbr.length; e++)
+				rev[fill[nbr[e]]++] = e;
+			
+			rowStart = new int[n + 1];
+			col = new int[2 * nbr.length];
+			val = new double[2 * nbr.length];
+			// the entry of column j in the current row, if at or after start
+			int[] at = new int[n];
+			Arrays.fill(at, -1);
+			int size = 0;
+			double scale = 1.0 / (2 * n);
+			for(int i = 0; i < n; i++) {
+				int start = size;
+				for(int r = -k; r < revStart[i + 1] - revStart[i]; r++) {
+					int e = r < 0 ? i * k + k + r : rev[revStart[i] + r];
+					int j = r < 0 ? nbr[e] : e / k;
+					if(at[j] < start) {
+						at[j] = size;
+						col[size] = j;
+						val[size++] = 0;
+					}
+					val[at[j]] += p[e] * scale;
+				}
+				rowStart[i + 1] = size;
+			}
+			col = Arrays.copyOf(col, size);
+			val = Arrays.copyOf(val, size);
+		}
+		
+		// one step of gradient descent with momentum and gains
+		void step(double exaggeration, double momentum) {
+			tree.build(y);
+			Parallel.forEach(pool, 0, n, LEAF, new Gradient());
+			double sum = 0;
+			for(int i = 0; i < n; i++)
+				sum += z[i];
+			for(int c = 0; c < 2 * n; c++)
+				grad[c] = 4 * (exaggeration * attract[c] - repulse[c] / sum);
+			
+			double rate = Math.max(200, n / EXAGGERATION);
+			double[] mean = new double[2];
+			for(int c = 0; c < 2 * n; c++) {
+				// faster along directions that keep their sign
+				gains[c] = (grad[c] > 0) != (update[c] > 0) ? gains[c] + 0.2 : Math.max(0.01, gains[c] * 0.8);
+				update[c] = momentum * update[c] - rate * gains[c] * grad[c];
+				y[c] += update[c];
+				mean[c & 1] += y[c];
+			}
+			for(int c = 0; c < 2 * n; c++)
+				y[c] -= mean[c & 1] / n;
+		}
+		
+		// the attraction, repulsion and the share of the normalization of
+		// the points from to to
+		final class Gradient implements Parallel.Range {
+			@Override
+			public void run(int from, int to) {
+				int[] stack = new int[3 * MAX_DEPTH + 4];
+				double[] f = new double[3];
+				for(int i = from; i < to; i++) {
+					double xi = y[2 * i], yi = y[2 * i + 1], ax = 0, ay = 0;
+					for(int e = rowStart[i]; e < rowStart[i + 1]; e++) {
+						int j = col[e];
+						double dx = xi - y[2 * j], dy = yi - y[2 * j + 1];
+						double q = val[e] / (1 + dx * dx + dy * dy);
+						ax += q * dx;
+						ay += q * dy;
+					}
+					attract[2 * i] = ax;
+					attract[2 * i + 1] = ay;
+					tree.repulsion(i, xi, yi, stack, f);
+					repulse[2 * i] = f[0];
+					repulse[2 * i + 1] = f[1];
+					z[i] = f[2];
+				}
+			}
+		}
+	}
+	
+	// a quadtree over the points of the map, every cell knows the number
+	// and the center of mass of its points. build() reuses the cells of the
+	// last tree, they only grow when the points need more of them
+	private static final class QuadTree {
+		double[] cx, cy, half, mx, my;
+		// the first of the 4 children or -1, the point of a leaf or -1
+		int[] count, child, point;
+		// the leaf of every point
+		final int[] leaf;
+		int nodes;
+		
+		QuadTree(int n) {
+			int cap = 4 * n + 1;
+			cx = new double[cap];
+			cy = new double[cap];
+			half = new double[cap];
+			mx = new double[cap];
+			my = new double[cap];
+			count = new int[cap];
+			child = new int[cap];
+			point = new int[cap];
+			leaf = new int[n];
+		}
+		
+		// the tree over the points in y, the cells of the old one are
+		// overwritten
+		void build(double[] y) {
+			int n = leaf.length;
+			nodes = 0;
+			double x0 = Double.POSITIVE_INFINITY, y0 = x0, x1 = -x0, y1 = -x0;
+			for(int i = 0; i < n; i++) {
+				x0 = Math.min(x0, y[2 * i]);
+				x1 = Math.max(x1, y[2 * i]);
+				y0 = Math.min(y0, y[2 * i + 1]);
+				y1 = Math.max(y1, y[2 * i + 1]);
+			}
+			node((x0 + x1) / 2, (y0 + y1) / 2, Math.max(x1 - x0, y1 - y0) / 2 * (1 + 1e-6) + Double.MIN_NORMAL);
+			for(int i = 0; i < n; i++)
+				insert(i, y[2 * i], y[2 * i + 1], y);
+			for(int c = 0; c < nodes; c++)
+				if(count[c] > 0) {
+					mx[c] /= count[c];
+					my[c] /= count[c];
+				}
+		}
+		
+		private int node(double x, double y, double h) {
+			if(nodes == cx.length) {
+				int cap = 2 * nodes;
+				cx = Arrays.copyOf(cx, cap);
+				cy = Arrays.copyOf(cy, cap);
+				half = Arrays.copyOf(half, cap);
+				mx = Arrays.copyOf(mx, cap);
+				my = Arrays.copyOf(my, cap);
+				count = Arrays.copyOf(count, cap);
+				child = Arrays.copyOf(child, cap);
+				point = Arrays.copyOf(point, cap);
+			}
+			cx[nodes] = x;
+			cy[nodes] = y;
+			half[nodes] = h;
+			mx[nodes] = my[nodes] = 0;
+			count[nodes] = 0;
+			child[nodes] = -1;
+			point[nodes] = -1;
+			return nodes++;
+		}
+		
+		private int quadrant(int c, double x, double y) {
+			return child[c] + (x < cx[c] ? 0 : 1) + (y < cy[c] ? 0 : 2);
+		}
+		
+		private void insert(int i, double x, double y, double[] pos) {
+			int c = 0;
+			for(int depth = 0; ; depth++) {
+				count[c]++;
+				mx[c] += x;
+				my[c] += y;
+				if(child[c] < 0) {
+					if(count[c] == 1)
+						point[c] = i;
+					// beyond MAX_DEPTH the points of a leaf coincide
+					if(count[c] == 1 || depth >= MAX_DEPTH) {
+						leaf[i] = c;
+						return;
+					}
+					double h = half[c] / 2;
+					// node() may grow the arrays, child is read after it
+					int first = node(cx[c] - h, cy[c] - h, h);
+					child[c] = first;
+					node(cx[c] + h, cy[c] - h, h);
+					node(cx[c] - h, cy[c] + h, h);
+					node(cx[c] + h, cy[c] + h, h);
+					// the point of the leaf moves down
+					int o = point[c];
+					point[c] = -1;
+					int d = quadrant(c, pos[2 * o], pos[2 * o + 1]);
+					count[d] = 1;
+					mx[d] = pos[2 * o];
+					my[d] = pos[2 * o + 1];
+					point[d] = o;
+					leaf[o] = d;
+				}
+				c = quadrant(c, x, y);
+			}
+		}
+		
+		// the sum over all other points j of q^2 (y_i - y_j) into f[0], f[1]
+		// and of q into f[2], q = 1 / (1 + |y_i - y_j|^2)
+		void repulsion(int i, double x, double y, int[] stack, double[] f) {
+			f[0] = f[1] = f[2] = 0;
+			int top = 0;
+			stack[top++] = 0;
+			while(top > 0) {
+				int c = stack[--top];
+				int m = count[c] - (leaf[i] == c ? 1 : 0);
+				if(m == 0)
+					continue;
+				double dx = x - mx[c], dy = y - my[c], d2 = dx * dx + dy * dy;
+				double w = 2 * half[c];
+				if(child[c] >= 0 && w * w >= THETA * THETA * d2) {
+					for(int q = 0; q < 4; q++)
+						stack[top++] = child[c] + q;
+					continue;
+				}
+				double q = 1 / (1 + d2);
+				f[2] += m * q;
+				f[0] += m * q * q * dx;
+				f[1] += m * q * q * dy;
+			}
+		}
+	}
+}
@@ -0,0 +1,168 @@
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * splits a stream into whitespace separated tokens, the current token is
+ * kept in a reusable buffer
+ */
+final class Tokenizer {
+	// exactly representable powers of ten
+	private static final double[] POW10 = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+		1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+	
+	private final Reader in;
+	private final char[] buf = new char[1 << 16];
+	private int pos = 0, end = 0;
+	private char[] tok = new char[64];
+	private int len = 0;
+	private int line = 1, tokLine = 1;
+	
+	Tokenizer(Reader in) {
+		this.in = in;
+	}
+	
+	boolean next() throws IOException {
+		len = 0;
+		int c;
+		while((c = read()) >= 0 && c <= ' ')
+			if(c == '\n')
+				line++;
+		if(c < 0)
+			return false;
+		
+		tokLine = line;
+		do {
+			if(len == tok.length)
+				tok = Arrays.copyOf(tok, tok.length * 2);
+			tok[len++] = (char) c;
+		} while((c = read()) > ' ');
+		if(c == '\n')
+			pos--;
+		return true;
+	}
+	
+	private int read() throws IOException {
+		if(pos == end) {
+			end = in.read(buf, 0, buf.length);
+			pos = 0;
+			if(end <= 0) {
+				end = 0;
+				return -1;
+			}
+		}
+		return buf[pos++];
+	}
+	
+	int line() {
+		return tokLine;
+	}
+	
+	int length() {
+		return len;
+	}
+	
+	boolean equals(String s) {
+		if(s.length() != len)
+			return false;
+		for(int i = 0; i < len; i++)
+			if(tok[i] != s.charAt(i))
+				return false;
+		return true;
+	}
+	
+	boolean endsWith(char c) {
+		return len > 0 && tok[len - 1] == c;
+	}
+	
+	String text(int from, int to) {
+		return new String(tok, from, to - from);
+	}
+	
+	boolean isNumber() {
+		int i = 0;
+		if(i < len && (tok[i] == '-' || tok[i] == '+'))
+			i++;
+		boolean digits = false;
+		while(i < len && tok[i] >= '0' && tok[i] <= '9') {
+			i++;
+			digits = true;
+		}
+		if(i < len && tok[i] == '.')
+			i++;
+		while(i < len && tok[i] >= '0' && tok[i] <= '9') {
+			i++;
+			digits = true;
+		}
+		if(!digits)
+			return false;
+		if(i < len && (tok[i] == 'e' || tok[i] == 'E')) {
+			i++;
+			if(i < len && (tok[i] == '-' || tok[i] == '+'))
+				i++;
+			if(i == len)
+				return false;
+			while(i < len && tok[i] >= '0' && tok[i] <= '9')
+				i++;
+		}
+		return i == len;
+	}
+	
+	/**
+	 * parses the current token, which has to satisfy isNumber(). Up to 15
+	 * significant digits with a small exponent are converted exactly
+	 * without allocating, anything else falls back to Double.parseDouble.
+	 * 
+	 * @return
+	 */
+	double number() {
+		int i = 0;
+		boolean neg = false;
+		if(tok[i] == '-' || tok[i] == '+')
+			neg = tok[i++] == '-';
+		
+		long mant = 0;
+		int digits = 0, exp = 0;
+		boolean dot = false;
+		for(; i < len && tok[i] != 'e' && tok[i] != 'E'; i++) {
+			char c = tok[i];
+			if(c == '.') {
+				dot = true;
+				continue;
+			}
+			if(mant == 0 && c == '0') {
+				if(dot)
+					exp--;
+				continue;
+			}
+			if(++digits > 15)
+				return Double.parseDouble(text(0, len));
+			mant = mant * 10 + (c - '0');
+			if(dot)
+				exp--;
+		}
+		if(i < len) {
+			int e = 0;
+			boolean eneg = false;
+			if(tok[++i] == '-' || tok[i] == '+')
+				eneg = tok[i++] == '-';
+			for(; i < len; i++) {
+				e = e * 10 + (tok[i] - '0');
+				if(e > 1000)
+					return Double.parseDouble(text(0, len));
+			}
+			exp += eneg ? -e : e;
+		}
+		
+		double v;
+		if(mant == 0)
+			v = 0;
+		else if(exp >= 0 && exp < POW10.length)
+			v = mant * POW10[exp];
+		else if(exp < 0 && -exp < POW10.length)
+			v = mant / POW10[-exp];
+		else
+			return Double.parseDouble(text(0, len));
+		return neg ? -v : v;
+	}
+}
@@ -0,0 +1,270 @@
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A vantage point tree over a set of packed models for exact euclidean
+ * nearest model queries, subtrees are pruned with the triangle inequality.
+ * 
+ * The tree is implicit in three arrays of one entry per model. The node of
+ * the range [lo, hi) of the permutation has its vantage point at lo, the
+ * models closer than mu[lo] in [lo + 1, mid[lo]) and the rest in
+ * [mid[lo], hi). Ranges of at most LEAF models are leaves and scanned. This
+ * makes the tree cheap to build in parallel and to store next to a model
+ * library.
+ */
+public final class VPTree {
+	public static final int LEAF = 16;
+	private static final byte[] MAGIC = {'A', 'A', 'V', 'P'};
+	private static final int VERSION = 1;
+	private static final int HEADER = 16;
+	// ranges smaller than this are built by a single task
+	private static final int SEQUENTIAL = 4096;
+	
+	private final PackedModels models;
+	private final int[] perm;
+	private final int[] mid;
+	private final double[] mu;
+	
+	private VPTree(PackedModels models, int[] perm, int[] mid, double[] mu) {
+		this.models = models;
+		this.perm = perm;
+		this.mid = mid;
+		this.mu = mu;
+	}
+	
+	/**
+	 * builds the tree in parallel, the result does not depend on the number
+	 * of threads
+	 * 
+	 * @param models
+	 * @return
+	 */
+	public static VPTree build(PackedModels models) {
+		int n = models.size();
+		int[] perm = new int[n];
+		for(int i = 0; i < n; i++)
+			perm[i] = i;
+		VPTree t = new VPTree(models, perm, new int[n], new double[n]);
+		Parallel.POOL.invoke(t.new Build(0, n, new double[n]));
+		return t;
+	}
+	
+	/**
+	 * the file the tree of a library is stored in
+	 * 
+	 * @param library
+	 * @return
+	 */
+	public static File indexFile(File library) {
+		return new File(library.getPath() + ".vpt");
+	}
+	
+	public PackedModels models() {
+		return models;
+	}
+	
+	public Neighbors nearest(AAModel query, int k) {
+		return nearest(query.rates(), k);
+	}
+	
+	/**
+	 * the k models closest to the query
+	 * 
+	 * @param query packed rates
+	 * @param k
+	 * @return indices into models()
+	 */
+	public Neighbors nearest(double[] query, int k) {
+		Neighbors nn = Neighbors.nearest(k);
+		if(perm.length > 0)
+			search(query, 0, perm.length, nn, -1);
+		return nn.sort();
+	}
+	
+	public Neighbors within(AAModel query, double r) {
+		return within(query.rates(), r);
+	}
+	
+	/**
+	 * all models within distance r of the query
+	 * 
+	 * @param query packed rates
+	 * @param r
+	 * @return indices into models()
+	 */
+	public Neighbors within(double[] query, double r) {
+		Neighbors nn = Neighbors.within();
+		if(perm.length > 0)
+			search(query, 0, perm.length, nn, r);
+		return nn.sort();
+	}
+	
+	// r < 0 for a k nearest neighbour search, the bound then shrinks
+	private void search(double[] query, int lo, int hi, Neighbors nn, double r) {
+		double[] rates = models.rates();
+		if(hi - lo <= LEAF) {
+			LibraryScan.scan(query, rates, perm, lo, hi, nn, r);
+			return;
+		}
+		
+		double d = DistanceKernels.euclidean(query, 0, rates, perm[lo] * AAModel.RATES, AAModel.RATES);
+		if(r < 0 ? d < nn.bound() : d <= r)
+			nn.offer(perm[lo], d);
+		
+		double m = mu[lo];
+		if(d < m) {
+			search(query, lo + 1, mid[lo], nn, r);
+			if(d + (r < 0 ? nn.bound() : r) >= m)
+				search(query, mid[lo], hi, nn, r);
+		} else {
+			search(query, mid[lo], hi, nn, r);
+			if(d - (r < 0 ? nn.bound() : r) <= m)
+				search(query, lo + 1, mid[lo], nn, r);
+		}
+	}
+	
+	/**
+	 * stores the tree, models are referenced by their index only
+	 * 
+	 * @param f
+	 * @throws IOException
+	 */
+	public void write(File f) throws IOException {
+		int n = perm.length;
+		RandomAccessFile raf = new RandomAccessFile(f, "rw");
+		try {
+			FileChannel ch = raf.getChannel();
+			ch.truncate(0);
+			ByteBuffer b = ByteBuffer.allocate(HEADER + n * 16).order(ByteOrder.LITTLE_ENDIAN);
+			b.put(MAGIC).putInt(VERSION).putInt(n).putInt(LEAF);
+			b.asIntBuffer().put(perm).put(mid);
+			b.position(HEADER + n * 8);
+			b.asDoubleBuffer().put(mu);
+			b.clear();
+			while(b.hasRemaining())
+				ch.write(b);
+		} finally {
+			raf.close();
+		}
+	}
+	
+	/**
+	 * loads a tree written by write() for the same models
+	 * 
+	 * @param f
+	 * @param models
+	 * @return
+	 * @throws IOException if the file is no tree or belongs to another set of
+	 * models
+	 */
+	public static VPTree read(File f, PackedModels models) throws IOException {
+		RandomAccessFile raf = new RandomAccessFile(f, "r");
+		try {
+			FileChannel ch = raf.getChannel();
+			ByteBuffer b = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size()).order(ByteOrder.LITTLE_ENDIAN);
+			for(int i = 0; i < MAGIC.length; i++)
+				if(b.get(i) != MAGIC[i])
+					throw new IOException(f + ": no vantage point tree");
+			if(b.getInt(4) != VERSION || b.getInt(12) != LEAF)
+				throw new IOException(f + ": unsupported tree version");
+			int n = b.getInt(8);
+			if(n != models.size() || b.capacity() < HEADER + (long) n * 16)
+				throw new IOException(f + ": tree over " + n + " models, library has " + models.size());
+			
+			int[] perm = new int[n], mid = new int[n];
+			double[] mu = new double[n];
+			b.position(HEADER);
+			b.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(perm).get(mid);
+			b.position(HEADER + n * 8);
+			b.slice().order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer().get(mu);
+			return new VPTree(models, perm, mid, mu);
+		} finally {
+			raf.close();
+		}
+	}
+	
+	/**
+	 * builds the subtree of [lo, hi), dist is scratch space of one entry per
+	 * model that the subtrees share without overlapping
+	 */
+	private final class Build extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		
+		private final int lo, hi;
+		private final double[] dist;
+		
+		Build(int lo, int hi, double[] dist) {
+			this.lo = lo;
+			this.hi = hi;
+			this.dist = dist;
+		}
+		
+		@Override
+		protected void compute() {
+			build(lo, hi);
+		}
+		
+		private void build(int lo, int hi) {
+			while(hi - lo > LEAF) {
+				split(lo, hi);
+				if(hi - lo > SEQUENTIAL) {
+					invokeAll(new Build(lo + 1, mid[lo], dist), new Build(mid[lo], hi, dist));
+					return;
+				}
+				build(lo + 1, mid[lo]);
+				lo = mid[lo];
+			}
+		}
+		
+		private void split(int lo, int hi) {
+			double[] rates = models.rates();
+			// a pseudo random vantage point that only depends on the range
+			int v = lo + (int) (((lo * 0x9E3779B97F4A7C15L + hi) >>> 33) % (hi - lo));
+			swap(lo, v);
+			int vp = perm[lo] * AAModel.RATES;
+			for(int i = lo + 1; i < hi; i++)
+				dist[i] = DistanceKernels.euclidean(rates, vp, rates, perm[i] * AAModel.RATES, AAModel.RATES);
+			
+			int m = lo + 1 + (hi - lo - 1) / 2;
+			select(lo + 1, hi - 1, m);
+			mid[lo] = m;
+			mu[lo] = dist[m];
+		}
+		
+		// quick select, afterwards dist[m] is in place, smaller ones before it
+		private void select(int l, int h, int m) {
+			while(l < h) {
+				double pivot = dist[(l + h) >>> 1];
+				int i = l, j = h;
+				while(i <= j) {
+					while(dist[i] < pivot)
+						i++;
+					while(dist[j] > pivot)
+						j--;
+					if(i <= j)
+						swap(i++, j--);
+				}
+				if(m <= j)
+					h = j;
+				else if(m >= i)
+					l = i;
+				else
+					return;
+			}
+		}
+		
+		private void swap(int a, int b) {
+			int p = perm[a];
+			perm[a] = perm[b];
+			perm[b] = p;
+			double d = dist[a];
+			dist[a] = dist[b];
+			dist[b] = d;
+		}
+	}
+}
@@ -0,0 +1,111 @@
+/**
+ * Checks the row sum normalizations of Normalizer against the former
+ * AAModel scale methods, kept here as reference with their O(20^3) loops
+ * over the full matrix. Every built in model is normalized by every
+ * Normalization through normalize(), normalizeAll() and the registry, all
+ * rates have to agree within TOLERANCE relative to the reference.
+ * 
+ * Run with the main classes on the class path, exits with 1 on a mismatch.
+ */
+public final class NormalizerTest {
+	private static final int AAS = AAModel.AAs.length;
+	// relative, the sums are only added up in a different order
+	private static final double TOLERANCE = 1e-12;
+	
+	public static void main(String[] args) {
+		int checked = 0, failed = 0;
+		Normalizer norm = new Normalizer();
+		for(Models m : Models.values()) {
+			AAModel model = ModelRegistry.get(m);
+			double[] q = model.rates(), f = model.frequencies();
+			double[][] all = new double[Normalizer.VARIANTS][AAModel.RATES];
+			norm.normalizeAll(q, 0, f, 0, all, 0);
+			for(Normalization n : Normalization.values()) {
+				double[] ref = reference(n, q, f);
+				double[] one = new double[AAModel.RATES];
+				norm.normalize(n, q, 0, f, 0, one, 0);
+				double[][] got = {one, all[n.ordinal()], ModelRegistry.get(m, n).rates()};
+				String[] via = {"normalize", "normalizeAll", "registry"};
+				for(int v = 0; v < got.length; v++) {
+					checked++;
+					for(int k = 0; k < AAModel.RATES; k++)
+						if(Math.abs(got[v][k] - ref[k]) > TOLERANCE * Math.abs(ref[k])) {
+							System.out.println(m + " " + n + " " + via[v] + ": rate " + k + " is " + got[v][k] + ", expected " + ref[k]);
+							failed++;
+							break;
+						}
+				}
+			}
+		}
+		System.out.println(checked + " normalizations checked, " + failed + " failed");
+		if(failed > 0)
+			System.exit(1);
+	}
+	
+	// the scale methods of AAModel before the row sums, packed again
+	private static double[] reference(Normalization n, double[] rates, double[] f) {
+		double[][] q = new double[AAS][AAS];
+		for(int i = 0, k = 0; i < AAS - 1; i++)
+			for(int j = i + 1; j < AAS; j++, k++)
+				q[i][j] = rates[k];
+		double c = n.scale;
+		switch(n) {
+		case NONE:
+			break;
+		case MAX: {
+			double max = 0;
+			for(int i = 0; i < 19; i++)
+				for(int j = i + 1; j < 20; j++)
+					if(q[i][j] > max)
+						max = q[i][j];
+			double scaler = AAModel.AA_SCALE / max;
+			for(int i = 0; i < 19; i++)
+				for(int j = i + 1; j < 20; j++)
+					q[i][j] *= scaler;
+			break;
+		}
+		case OCC: {
+			double[][] sum = new double[AAS][AAS];
+			for(int i = 0; i < AAS; i++)
+				for(int j = 0; j < AAS; j++) {
+					for(int a = i + 1; a < AAS; a++)
+						sum[i][j] += q[i][a];
+					for(int a = 0; a < i - 1; a++)
+						sum[i][j] += q[a][i];
+					for(int a = j + 1; a < AAS; a++)
+						sum[i][j] += q[j][a];
+					for(int a = 0; a < j - 1; a++)
+						sum[i][j] += q[a][j];
+					sum[i][j] -= q[i][j];
+				}
+			for(int i = 0; i < AAS; i++)
+				for(int j = 0; j < AAS; j++)
+					q[i][j] = c * q[i][j] / sum[i][j];
+			break;
+		}
+		case ONE:
+		case ONE_F_LESS: {
+			double[] qii = new double[AAS];
+			double scale = 0;
+			for(int i = 0; i < AAS; i++) {
+				for(int a = 0; a < i; a++)
+					qii[i] += q[a][i];
+				for(int a = i + 1; a < AAS; a++)
+					qii[i] += q[i][a];
+				qii[i] *= -1;
+			}
+			for(int i = 0; i < AAS; i++)
+				scale += (1 / -qii[i]) * (n == Normalization.ONE ? f[i] : 1);
+			for(int i = 0; i < AAS; i++)
+				for(int j = 0; j < AAS; j++)
+					q[i][j] *= c * scale;
+			break;
+		}
+		}
+		double[] out = new double[AAModel.RATES];
+		for(int i = 0, k = 0; i < AAS - 1; i++)
+			for(int j = i + 1; j < AAS; j++, k++)
+				out[k] = q[i][j];
+		return out;
+	}
+}